@@ -0,0 +1,172 @@
+// src/jmh/java/com/sonic/claudeforge/benchmark/ClaudeResponses.java
+package com.sonic.claudeforge.benchmark;
+
+/**
+ * Synthetic Claude-style responses and source files for the benchmarks
+ * Generation is deterministic: the same shape and size always give the same text
+ */
+public final class ClaudeResponses {
+    
+    private ClaudeResponses() {
+    }
+    
+    /**
+     * Build a response of at least the given size
+     * @param shape "fenced", "raw", "mixed" or "adversarial"
+     * @param size Minimum length in characters
+     */
+    public static String generate(String shape, int size) {
+        StringBuilder response = new StringBuilder(size + 4096);
+        response.append("Here is the implementation you asked for.\n\n");
+        
+        for (int i = 0; response.length() < size; i++) {
+            switch (shape) {
+                case "fenced" -> appendFencedFile(response, i);
+                case "raw" -> appendRawFile(response, i);
+                case "mixed" -> {
+                    if (i % 2 == 0) {
+                        appendFencedFile(response, i);
+                    } else {
+                        appendRawFile(response, i);
+                    }
+                }
+                case "adversarial" -> appendAdversarial(response, i);
+                default -> throw new IllegalArgumentException("Unknown response shape: " + shape);
+            }
+        }
+        
+        if ("adversarial".equals(shape)) {
+            // An unterminated fence turns everything after it into unfenced text
+            response.append("```java\n// src/main/java/com/example/Unclosed.java\npublic class Unclosed {\n");
+        }
+        return response.toString();
+    }
+    
+    /**
+     * Java class with the given number of fields and methods
+     * @param adversarial Add lines that are slow for backtracking patterns
+     */
+    public static String javaClass(int members, boolean adversarial) {
+        StringBuilder code = new StringBuilder();
+        code.append("package com.example.service;\n\n")
+            .append("import org.springframework.stereotype.Service;\n")
+            .append("import java.util.List;\n\n")
+            .append("@Service\n")
+            .append("public class GeneratedService {\n");
+        
+        for (int i = 0; i < members; i++) {
+            code.append("    private String field").append(i).append(";\n");
+        }
+        for (int i = 0; i < members; i++) {
+            code.append("\n    @GetMapping(\"/items/").append(i).append("\")\n")
+                .append("    public List<String> method").append(i).append("(String value, int count) {\n")
+                .append("        return List.of(value + count + field").append(i).append(");\n")
+                .append("    }\n");
+            if (adversarial && i % 10 == 0) {
+                code.append("    public ").append("a ".repeat(2000)).append("\n");
+                code.append("    // ").append("/".repeat(4000)).append("\n");
+            }
+        }
+        
+        code.append("}\n");
+        return code.toString();
+    }
+    
+    /**
+     * Model class with the given number of fields and the getter/setter marker
+     */
+    public static String modelClass(int fields) {
+        StringBuilder code = new StringBuilder();
+        code.append("package com.example.model;\n\n")
+            .append("public class GeneratedModel {\n");
+        for (int i = 0; i < fields; i++) {
+            code.append("    private ").append(i % 2 == 0 ? "String" : "Long").append(" field").append(i).append(";\n");
+        }
+        code.append("\n    // @GENERATE_GETTERS_SETTERS\n}\n");
+        return code.toString();
+    }
+    
+    private static void appendFencedFile(StringBuilder response, int i) {
+        response.append("File ").append(i).append(" of the change:\n\n");
+        switch (i % 6) {
+            case 0 -> response.append("```java\n// src/main/java/com/example/service/Service").append(i).append(".java\n")
+                    .append(javaFile("service", "Service" + i)).append("```\n\n");
+            case 1 -> response.append("```tsx\n// src/components/Widget").append(i).append(".tsx\n")
+                    .append(reactFile("Widget" + i)).append("```\n\n");
+            case 2 -> response.append("```ts\n// src/types/model").append(i).append(".ts\n")
+                    .append(typeScriptFile("Model" + i)).append("```\n\n");
+            case 3 -> response.append("```css\n/* src/styles/widget").append(i).append(".css */\n")
+                    .append(cssFile("widget-" + i)).append("```\n\n");
+            case 4 -> response.append("```html\n// public/page").append(i).append(".html\n")
+                    .append(htmlFile("Page " + i)).append("```\n\n");
+            default -> response.append("```yaml\n# config/app").append(i).append(".yml\n")
+                    .append("server:\n  port: ").append(8000 + i).append("\nspring:\n  application:\n    name: app").append(i).append("\n```\n\n");
+        }
+    }
+    
+    private static void appendRawFile(StringBuilder response, int i) {
+        switch (i % 3) {
+            case 0 -> response.append("// src/main/java/com/example/model/Entity").append(i).append(".java\n")
+                    .append(javaFile("model", "Entity" + i)).append("\n");
+            case 1 -> response.append("// src/components/Card").append(i).append(".tsx\n")
+                    .append(reactFile("Card" + i)).append("\n");
+            default -> response.append("/* src/styles/card").append(i).append(".css */\n")
+                    .append(cssFile("card-" + i)).append("\n");
+        }
+    }
+    
+    private static void appendAdversarial(StringBuilder response, int i) {
+        switch (i % 6) {
+            case 0 -> response.append("/".repeat(4096)).append("\n");
+            case 1 -> response.append("// src/").append("a".repeat(2048)).append(" no extension here\n");
+            case 2 -> response.append("public ").append("x ".repeat(2000)).append("\n");
+            case 3 -> response.append("`` ` ".repeat(500)).append("\n");
+            case 4 -> response.append("<".repeat(1000)).append(">\n");
+            default -> appendFencedFile(response, i);
+        }
+    }
+    
+    private static String javaFile(String layer, String className) {
+        return "package com.example." + layer + ";\n\n"
+                + "import org.springframework.stereotype.Service;\n\n"
+                + "@Service\n"
+                + "public class " + className + " {\n"
+                + "    private final String name = \"" + className + "\";\n\n"
+                + "    public String getName() {\n"
+                + "        return name;\n"
+                + "    }\n"
+                + "}\n";
+    }
+    
+    private static String reactFile(String component) {
+        return "import React, { useState } from 'react';\n\n"
+                + "export const " + component + ": React.FC = () => {\n"
+                + "  const [count, setCount] = useState(0);\n"
+                + "  return <button onClick={() => setCount(count + 1)}>{count}</button>;\n"
+                + "};\n\n"
+                + "export default " + component + ";\n";
+    }
+    
+    private static String typeScriptFile(String model) {
+        return "export interface " + model + " {\n"
+                + "  id: number;\n"
+                + "  name: string;\n"
+                + "}\n\n"
+                + "export type " + model + "Id = " + model + "['id'];\n";
+    }
+    
+    private static String cssFile(String selector) {
+        return "." + selector + " {\n"
+                + "  display: flex;\n"
+                + "  padding: 8px;\n"
+                + "}\n";
+    }
+    
+    private static String htmlFile(String title) {
+        return "<!DOCTYPE html>\n"
+                + "<html>\n"
+                + "<head><title>" + title + "</title></head>\n"
+                + "<body><div id=\"root\"></div></body>\n"
+                + "</html>\n";
+    }
+}
\ No newline at end of file
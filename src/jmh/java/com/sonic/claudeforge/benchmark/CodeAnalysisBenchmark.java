@@ -0,0 +1,61 @@
+// src/jmh/java/com/sonic/claudeforge/benchmark/CodeAnalysisBenchmark.java
+package com.sonic.claudeforge.benchmark;
+
+import com.sonic.claudeforge.config.ClaudeForgeProperties;
+import com.sonic.claudeforge.util.CodeAnalyzer;
+import com.sonic.claudeforge.util.TemplateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-file analysis done after parsing: class structure extraction and getter/setter generation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CodeAnalysisBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int members;
+    
+    @Param({"false", "true"})
+    private boolean adversarial;
+    
+    private CodeAnalyzer analyzer;
+    private TemplateUtils templateUtils;
+    private String javaClass;
+    private String modelClass;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        analyzer = new CodeAnalyzer(new ClaudeForgeProperties());
+        templateUtils = new TemplateUtils();
+        javaClass = ClaudeResponses.javaClass(members, adversarial);
+        modelClass = ClaudeResponses.modelClass(members);
+    }
+    
+    @Benchmark
+    public CodeAnalyzer.ClassInfo extractClassInfo() {
+        return analyzer.extractClassInfo(javaClass);
+    }
+    
+    @Benchmark
+    public String processGetterSetterGeneration() {
+        return templateUtils.processGetterSetterGeneration(modelClass);
+    }
+}
\ No newline at end of file
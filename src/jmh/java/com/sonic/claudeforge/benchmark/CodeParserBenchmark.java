@@ -0,0 +1,70 @@
+// src/jmh/java/com/sonic/claudeforge/benchmark/CodeParserBenchmark.java
+package com.sonic.claudeforge.benchmark;
+
+import com.sonic.claudeforge.service.parser.CodeFenceTokenizer;
+import com.sonic.claudeforge.service.parser.CodeParser;
+import com.sonic.claudeforge.service.parser.ParsedFile;
+import com.sonic.claudeforge.service.parser.ParserRegistry;
+import com.sonic.claudeforge.service.parser.TokenizedContent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One parser at a time: parse on its routed view of a pre-tokenized response, and canHandle on the raw text
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class CodeParserBenchmark {
+    
+    @Param({"Java", "React/TypeScript", "TypeScript", "CSS", "HTML", "Generic"})
+    private String parserType;
+    
+    @Param({"10240", "1048576", "20971520"})
+    private int size;
+    
+    @Param({"mixed", "fenced", "raw", "adversarial"})
+    private String shape;
+    
+    private String response;
+    private CodeParser parser;
+    private TokenizedContent routed;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        ParserRegistry registry = ParserPipelineBenchmark.newRegistry();
+        parser = registry.find(parserType);
+        if (parser == null) {
+            throw new IllegalArgumentException("Unknown parser type: " + parserType);
+        }
+        
+        response = ClaudeResponses.generate(shape, size);
+        routed = registry.route(CodeFenceTokenizer.tokenize(response), parser);
+    }
+    
+    @Benchmark
+    public List<ParsedFile> parse() {
+        return parser.parse(routed);
+    }
+    
+    @Benchmark
+    public boolean canHandle() {
+        return parser.canHandle(response);
+    }
+}
\ No newline at end of file
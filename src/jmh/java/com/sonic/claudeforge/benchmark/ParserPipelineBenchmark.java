@@ -0,0 +1,97 @@
+// src/jmh/java/com/sonic/claudeforge/benchmark/ParserPipelineBenchmark.java
+package com.sonic.claudeforge.benchmark;
+
+import com.sonic.claudeforge.config.ClaudeForgeProperties;
+import com.sonic.claudeforge.config.ExecutorConfig;
+import com.sonic.claudeforge.service.parser.CodeParseManager;
+import com.sonic.claudeforge.service.parser.CssCodeParser;
+import com.sonic.claudeforge.service.parser.GenericCodeParser;
+import com.sonic.claudeforge.service.parser.HtmlCodeParser;
+import com.sonic.claudeforge.service.parser.JavaCodeParser;
+import com.sonic.claudeforge.service.parser.ParseResult;
+import com.sonic.claudeforge.service.parser.ParserRegistry;
+import com.sonic.claudeforge.service.parser.ReactCodeParser;
+import com.sonic.claudeforge.service.parser.TypeScriptCodeParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end parsing of a whole response: tokenizing, detection, every parser and result assembly
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ParserPipelineBenchmark {
+    
+    @Param({"10240", "1048576", "20971520"})
+    private int size;
+    
+    @Param({"mixed", "fenced", "raw", "adversarial"})
+    private String shape;
+    
+    @Param({"false"})
+    private boolean parallel;
+    
+    private String response;
+    private CodeParseManager manager;
+    private ExecutorService executor;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClaudeForgeProperties properties = new ClaudeForgeProperties();
+        properties.getParser().setParallel(parallel);
+        // Every invocation must parse, not hit the result cache
+        properties.getParser().getCache().setEnabled(false);
+        
+        executor = new ExecutorConfig().parserExecutor(properties);
+        manager = new CodeParseManager(newRegistry(), properties, executor, new SimpleMeterRegistry());
+        response = ClaudeResponses.generate(shape, size);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+    
+    @Benchmark
+    public ParseResult parseAll() {
+        return manager.parseAll(response);
+    }
+    
+    @Benchmark
+    public List<String> detectApplicableParsers() {
+        return manager.detectApplicableParsers(response);
+    }
+    
+    /**
+     * The parsers Spring would register, in the same order
+     */
+    static ParserRegistry newRegistry() {
+        return new ParserRegistry(List.of(
+                new JavaCodeParser(),
+                new ReactCodeParser(),
+                new TypeScriptCodeParser(),
+                new CssCodeParser(),
+                new HtmlCodeParser(),
+                new GenericCodeParser()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+// src/main/java/com/sonic/claudeforge/config/AsyncWebConfig.java
+package com.sonic.claudeforge.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Async request configuration for ClaudeForge
+ * Streamed response bodies run on the bounded download pool instead of a thread per request
+ */
+@Configuration
+public class AsyncWebConfig implements WebMvcConfigurer {
+    
+    private final ExecutorService downloadExecutor;
+    
+    public AsyncWebConfig(@Qualifier("downloadExecutor") ExecutorService downloadExecutor) {
+        this.downloadExecutor = downloadExecutor;
+    }
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(downloadExecutor));
+    }
+}
\ No newline at end of file
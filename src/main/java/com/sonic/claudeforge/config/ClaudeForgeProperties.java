@@ -14,6 +14,11 @@ public class ClaudeForgeProperties {
     private Workspace workspace = new Workspace();
     private Templates templates = new Templates();
     private Generated generated = new Generated();
+    private Parser parser = new Parser();
+    private Upload upload = new Upload();
+    private Batch batch = new Batch();
+    private Writer writer = new Writer();
+    private Jobs jobs = new Jobs();
     
     // Getters and Setters
     public Workspace getWorkspace() { return workspace; }
@@ -25,6 +30,21 @@ public class ClaudeForgeProperties {
     public Generated getGenerated() { return generated; }
     public void setGenerated(Generated generated) { this.generated = generated; }
     
+    public Parser getParser() { return parser; }
+    public void setParser(Parser parser) { this.parser = parser; }
+    
+    public Upload getUpload() { return upload; }
+    public void setUpload(Upload upload) { this.upload = upload; }
+    
+    public Batch getBatch() { return batch; }
+    public void setBatch(Batch batch) { this.batch = batch; }
+    
+    public Writer getWriter() { return writer; }
+    public void setWriter(Writer writer) { this.writer = writer; }
+    
+    public Jobs getJobs() { return jobs; }
+    public void setJobs(Jobs jobs) { this.jobs = jobs; }
+    
     public static class Workspace {
         private String basePath;
         
@@ -52,4 +72,117 @@ public class ClaudeForgeProperties {
             public void setPath(String path) { this.path = path; }
         }
     }
+    
+    public static class Parser {
+        private boolean parallel = false;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int parallelThreshold = 64 * 1024;
+        private long matchTimeoutMillis = 2000;
+        private int minConfidence = 50;
+        // Unfenced prose a streaming parse buffers, in characters, to look for raw files once the stream ends
+        private int maxUnfencedText = 4 * 1024 * 1024;
+        private Cache cache = new Cache();
+        
+        public boolean isParallel() { return parallel; }
+        public void setParallel(boolean parallel) { this.parallel = parallel; }
+        
+        public int getThreads() { return threads; }
+        public void setThreads(int threads) { this.threads = threads; }
+        
+        public int getParallelThreshold() { return parallelThreshold; }
+        public void setParallelThreshold(int parallelThreshold) { this.parallelThreshold = parallelThreshold; }
+        
+        public long getMatchTimeoutMillis() { return matchTimeoutMillis; }
+        public void setMatchTimeoutMillis(long matchTimeoutMillis) { this.matchTimeoutMillis = matchTimeoutMillis; }
+        
+        public int getMinConfidence() { return minConfidence; }
+        public void setMinConfidence(int minConfidence) { this.minConfidence = minConfidence; }
+        
+        public int getMaxUnfencedText() { return maxUnfencedText; }
+        public void setMaxUnfencedText(int maxUnfencedText) { this.maxUnfencedText = maxUnfencedText; }
+        
+        public Cache getCache() { return cache; }
+        public void setCache(Cache cache) { this.cache = cache; }
+        
+        public static class Cache {
+            private boolean enabled = true;
+            private int maxEntries = 64;
+            private long maxWeight = 32L * 1024 * 1024;
+            
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            
+            public int getMaxEntries() { return maxEntries; }
+            public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+            
+            public long getMaxWeight() { return maxWeight; }
+            public void setMaxWeight(long maxWeight) { this.maxWeight = maxWeight; }
+        }
+    }
+    
+    public static class Upload {
+        // Largest accepted response in bytes, after decompression
+        private long maxSize = 64L * 1024 * 1024;
+        
+        public long getMaxSize() { return maxSize; }
+        public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+    }
+    
+    public static class Batch {
+        // Workspaces processed at once, across all batch requests
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int maxItems = 100;
+        // Batches accepted at once; further batch requests are rejected until one finishes
+        private int maxConcurrent = 4;
+        
+        public int getThreads() { return threads; }
+        public void setThreads(int threads) { this.threads = threads; }
+        
+        public int getMaxItems() { return maxItems; }
+        public void setMaxItems(int maxItems) { this.maxItems = maxItems; }
+        
+        public int getMaxConcurrent() { return maxConcurrent; }
+        public void setMaxConcurrent(int maxConcurrent) { this.maxConcurrent = maxConcurrent; }
+    }
+    
+    public static class Writer {
+        // Files written at once; writes are I/O-bound, so this may exceed the core count
+        private int threads = 8;
+        private Durability durability = Durability.NONE;
+        
+        public int getThreads() { return threads; }
+        public void setThreads(int threads) { this.threads = threads; }
+        
+        public Durability getDurability() { return durability; }
+        public void setDurability(Durability durability) { this.durability = durability; }
+        
+        /**
+         * When written files are forced to disk
+         */
+        public enum Durability {
+            // Leave it to the OS; a crash soon after a generation can leave truncated files
+            NONE,
+            // Force every file of a generation, and their directories, once it has been written
+            BATCHED,
+            // Force each file and its directory right after writing it
+            PER_FILE
+        }
+    }
+    
+    public static class Jobs {
+        // Background generations run at once; more wait in the queue, and beyond it submits are refused
+        private int threads = 4;
+        private int queueCapacity = 100;
+        // How long finished jobs can still be polled
+        private long retentionMinutes = 60;
+        
+        public int getThreads() { return threads; }
+        public void setThreads(int threads) { this.threads = threads; }
+        
+        public int getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+        
+        public long getRetentionMinutes() { return retentionMinutes; }
+        public void setRetentionMinutes(long retentionMinutes) { this.retentionMinutes = retentionMinutes; }
+    }
 }
\ No newline at end of file
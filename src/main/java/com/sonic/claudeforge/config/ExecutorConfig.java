@@ -0,0 +1,123 @@
+// src/main/java/com/sonic/claudeforge/config/ExecutorConfig.java
+package com.sonic.claudeforge.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor Configuration for ClaudeForge
+ * Bounded thread pools used for background and parallel work
+ */
+@Configuration
+public class ExecutorConfig {
+    
+    /**
+     * Pool for running code parsers in parallel
+     * Parsing is CPU-bound, so the pool is sized to the configured thread count
+     * and falls back to the calling thread when saturated
+     */
+    @Bean(name = "parserExecutor", destroyMethod = "shutdown")
+    public ExecutorService parserExecutor(ClaudeForgeProperties properties) {
+        int threads = Math.max(1, properties.getParser().getThreads());
+        return new ThreadPoolExecutor(threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(threads * 4),
+                namedDaemonThreads("parser-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    /**
+     * Pool for writing generated files
+     * Writing is I/O-bound, so the pool may be larger than the core count; it is bounded and
+     * falls back to the calling thread when saturated
+     */
+    @Bean(name = "fileWriterExecutor", destroyMethod = "shutdown")
+    public ExecutorService fileWriterExecutor(ClaudeForgeProperties properties) {
+        int threads = Math.max(1, properties.getWriter().getThreads());
+        return new ThreadPoolExecutor(threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(threads * 4),
+                namedDaemonThreads("writer-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+    
+    /**
+     * Pool for batch parse-and-generate requests
+     * Its thread count is the overall limit on workspaces generated at once; extra work queues
+     * instead of running on request threads. The queue holds every item of the batches accepted
+     * at once, which BatchGenerationService limits, so it never fills
+     */
+    @Bean(name = "batchExecutor", destroyMethod = "shutdown")
+    public ExecutorService batchExecutor(ClaudeForgeProperties properties) {
+        ClaudeForgeProperties.Batch batch = properties.getBatch();
+        int threads = Math.max(1, batch.getThreads());
+        int capacity = Math.max(1, batch.getMaxConcurrent()) * Math.max(1, batch.getMaxItems());
+        return new ThreadPoolExecutor(threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(capacity),
+                namedDaemonThreads("batch-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * Pool for background generation jobs
+     * The queue is bounded; once it is full, submits are rejected rather than run on request threads
+     */
+    @Bean(name = "jobExecutor", destroyMethod = "shutdown")
+    public ExecutorService jobExecutor(ClaudeForgeProperties properties) {
+        int threads = Math.max(1, properties.getJobs().getThreads());
+        return new ThreadPoolExecutor(threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, properties.getJobs().getQueueCapacity())),
+                namedDaemonThreads("job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * Threads sending job progress to server-sent event streams, one per open stream
+     * A slow client holds only its own stream thread and, once its buffer is full, its own job's thread
+     * (the file writer reports progress from the job thread, never from writer pool threads);
+     * there can be no more streams than jobs the job pool accepts
+     */
+    @Bean(name = "streamExecutor", destroyMethod = "shutdown")
+    public ExecutorService streamExecutor(ClaudeForgeProperties properties) {
+        int maxStreams = Math.max(1, properties.getJobs().getThreads() + properties.getJobs().getQueueCapacity());
+        return new ThreadPoolExecutor(0, maxStreams,
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                namedDaemonThreads("sse-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * Threads writing streamed responses such as ZIP downloads (Spring MVC's async executor)
+     * Sized like the job pool, since each download generates a project; beyond the queue,
+     * downloads are refused rather than each getting a new thread
+     */
+    @Bean(name = "downloadExecutor", destroyMethod = "shutdown")
+    public ExecutorService downloadExecutor(ClaudeForgeProperties properties) {
+        int threads = Math.max(1, properties.getJobs().getThreads());
+        return new ThreadPoolExecutor(threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, properties.getJobs().getQueueCapacity())),
+                namedDaemonThreads("download-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
\ No newline at end of file
@@ -1,6 +1,10 @@
 // src/main/java/com/sonic/claudeforge/controller/CodeGenController.java
 package com.sonic.claudeforge.controller;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -8,6 +12,9 @@ import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,11 +23,27 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.WebUtils;
 
+import com.sonic.claudeforge.config.ClaudeForgeProperties;
+import com.sonic.claudeforge.model.BatchRequest;
+import com.sonic.claudeforge.model.BatchResult;
 import com.sonic.claudeforge.model.GeneratedCode;
+import com.sonic.claudeforge.service.BatchGenerationService;
 import com.sonic.claudeforge.service.CodeGeneratorService;
+import com.sonic.claudeforge.service.GenerationEventStream;
+import com.sonic.claudeforge.service.GenerationJobService;
 import com.sonic.claudeforge.service.parser.CodeParseManager;
 import com.sonic.claudeforge.service.parser.ParseResult;
+import com.sonic.claudeforge.service.parser.ParseResultCache;
+import com.sonic.claudeforge.service.parser.ParseSession;
+import com.sonic.claudeforge.util.UploadStreams;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 
 /**
  * Enhanced Code Generation Controller with modular parser support
@@ -32,27 +55,212 @@ import com.sonic.claudeforge.service.parser.ParseResult;
 public class CodeGenController {
     
     private static final Logger logger = LoggerFactory.getLogger(CodeGenController.class);
+    private static final String PARSE_SESSION_ATTRIBUTE = "claudeforge.parseSession:";
+    private static final long STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000L;
     
     private final CodeGeneratorService codeGeneratorService;
+    private final BatchGenerationService batchGenerationService;
+    private final GenerationJobService generationJobService;
+    private final ClaudeForgeProperties properties;
     
-    public CodeGenController(CodeGeneratorService codeGeneratorService) {
+    public CodeGenController(CodeGeneratorService codeGeneratorService,
+                             BatchGenerationService batchGenerationService,
+                             GenerationJobService generationJobService,
+                             ClaudeForgeProperties properties) {
         this.codeGeneratorService = codeGeneratorService;
+        this.batchGenerationService = batchGenerationService;
+        this.generationJobService = generationJobService;
+        this.properties = properties;
     }
     
+    /**
+     * Parse and generate code files; with "dryRun": true they are only parsed and returned,
+     * nothing is written. With async=true the work is queued as a background job and a
+     * 202 with the job id is returned, as from /api/jobs/parse-and-generate
+     */
     @PostMapping("/parse-and-generate")
-    public ResponseEntity<Map<String, Object>> parseAndGenerateCode(@RequestBody Map<String, String> request) {
+    public ResponseEntity<Map<String, Object>> parseAndGenerateCode(@RequestBody Map<String, String> request,
+                                                                    @RequestParam(defaultValue = "false") boolean async) {
         String claudeResponse = request.get("claudeResponse");
         String workspacePath = request.get("workspacePath");
+        boolean dryRun = Boolean.parseBoolean(request.get("dryRun"));
+        
+        if (async) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            if (dryRun) {
+                response.put("message", "dryRun and async cannot be combined");
+                return ResponseEntity.badRequest().body(response);
+            }
+            if (claudeResponse == null || workspacePath == null) {
+                response.put("message", "claudeResponse and workspacePath are required");
+                return ResponseEntity.badRequest().body(response);
+            }
+            logger.info("Queueing parse-and-generate of code files at: {}", workspacePath);
+            return JobController.accepted(generationJobService.submitParseAndGenerate(claudeResponse, workspacePath));
+        }
         
-        logger.info("Parsing Claude response and generating code files at: {}", workspacePath);
+        logger.info("Parsing Claude response and generating code files at: {}{}", workspacePath, dryRun ? " (dry run)" : "");
         
-        GeneratedCode generatedCode = codeGeneratorService.parseAndGenerateCode(claudeResponse, workspacePath);
+        GeneratedCode generatedCode = dryRun
+                ? codeGeneratorService.parseAndGenerateCodeDryRun(claudeResponse, workspacePath)
+                : codeGeneratorService.parseAndGenerateCode(claudeResponse, workspacePath);
         
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
-        response.put("message", "Code files generated successfully using modular parser system");
+        response.put("message", dryRun
+                ? "Dry run: code files generated in memory, nothing written to the workspace"
+                : "Code files generated successfully using modular parser system");
+        response.put("dryRun", dryRun);
         response.put("generatedCode", generatedCode);
         response.put("totalFiles", generatedCode.getFiles().size());
+        response.put("unchangedFiles", generatedCode.countFiles(GeneratedCode.WriteStatus.UNCHANGED));
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Parse and generate as a background job, streaming progress as server-sent events
+     * Events: job, stage, file-parsed, file-invalid, parsed, file-written, then done
+     */
+    @PostMapping(value = "/parse-and-generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter parseAndGenerateStream(@RequestBody Map<String, String> request) {
+        String claudeResponse = request.get("claudeResponse");
+        String workspacePath = request.get("workspacePath");
+        
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        if (claudeResponse == null || workspacePath == null) {
+            new GenerationEventStream(emitter).reject("claudeResponse and workspacePath are required");
+            return emitter;
+        }
+        
+        logger.info("Streaming generation of code files at: {}", workspacePath);
+        generationJobService.streamParseAndGenerate(claudeResponse, workspacePath, emitter);
+        return emitter;
+    }
+    
+    /**
+     * Parse a response and download its files as a ZIP, streamed as it is built
+     * Nothing is written to the workspace, so no workspacePath is needed
+     */
+    @PostMapping("/parse-and-generate/zip")
+    public ResponseEntity<StreamingResponseBody> parseAndGenerateZip(@RequestBody Map<String, String> request) {
+        String claudeResponse = request.get("claudeResponse");
+        if (claudeResponse == null) {
+            logger.warn("Rejected ZIP request without claudeResponse");
+            return ResponseEntity.badRequest().build();
+        }
+        
+        logger.info("Streaming generated code files as a ZIP");
+        StreamingResponseBody body = out -> codeGeneratorService.parseAndGenerateZip(claudeResponse, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("generated-code.zip").build().toString())
+                .body(body);
+    }
+    
+    /**
+     * Parse and generate many responses, each into its own workspace, concurrently
+     */
+    @PostMapping("/parse-and-generate/batch")
+    public ResponseEntity<Map<String, Object>> parseAndGenerateBatch(@RequestBody BatchRequest request) {
+        logger.info("Parsing batch of {} Claude responses", request.getItems().size());
+        
+        List<BatchResult> results = batchGenerationService.parseAndGenerate(request.getItems());
+        long succeeded = results.stream().filter(BatchResult::isSuccess).count();
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", succeeded == results.size());
+        response.put("message", String.format("Generated %d of %d items", succeeded, results.size()));
+        response.put("results", results);
+        response.put("totalItems", results.size());
+        response.put("failedItems", results.size() - succeeded);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Parse and generate a revised response, reparsing only the blocks that changed since the
+     * previous revision sent to the same workspace in this HTTP session
+     */
+    @PostMapping("/parse-and-generate/incremental")
+    public ResponseEntity<Map<String, Object>> parseAndGenerateIncremental(@RequestBody Map<String, String> request,
+                                                                         HttpSession httpSession) {
+        String claudeResponse = request.get("claudeResponse");
+        String workspacePath = request.get("workspacePath");
+        
+        logger.info("Incrementally parsing Claude response and generating code files at: {}", workspacePath);
+        
+        ParseSession session = parseSession(httpSession, workspacePath);
+        GeneratedCode generatedCode = codeGeneratorService.parseAndGenerateCode(claudeResponse, workspacePath, session);
+        // Set it again so session stores that persist on setAttribute see this revision
+        httpSession.setAttribute(PARSE_SESSION_ATTRIBUTE + workspacePath, session);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Code files regenerated incrementally");
+        response.put("generatedCode", generatedCode);
+        response.put("totalFiles", generatedCode.getFiles().size());
+        response.put("reparsedBlocks", session.getParsedBlocks());
+        response.put("reusedBlocks", session.getReusedBlocks());
+        response.put("rewrittenFiles", generatedCode.countFiles(GeneratedCode.WriteStatus.WRITTEN));
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    private ParseSession parseSession(HttpSession httpSession, String workspacePath) {
+        String attribute = PARSE_SESSION_ATTRIBUTE + workspacePath;
+        synchronized (WebUtils.getSessionMutex(httpSession)) {
+            ParseSession session = (ParseSession) httpSession.getAttribute(attribute);
+            if (session == null) {
+                session = new ParseSession();
+                httpSession.setAttribute(attribute, session);
+            }
+            return session;
+        }
+    }
+    
+    /**
+     * Parse and generate from a raw response body (text/plain, optionally gzip-compressed)
+     * The body is parsed as it is read instead of being bound into a map first
+     */
+    @PostMapping(value = "/upload", consumes = {MediaType.TEXT_PLAIN_VALUE, "application/gzip", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<Map<String, Object>> uploadResponse(HttpServletRequest request,
+                                                             @RequestParam String workspacePath) throws IOException {
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding())
+                : StandardCharsets.UTF_8;
+        
+        logger.info("Parsing uploaded Claude response ({} bytes) and generating code files at: {}",
+                request.getContentLengthLong(), workspacePath);
+        
+        try (Reader reader = UploadStreams.openText(request.getInputStream(), properties.getUpload().getMaxSize(), charset)) {
+            return uploadResult(codeGeneratorService.parseAndGenerateCode(reader, workspacePath));
+        }
+    }
+    
+    /**
+     * Parse and generate from a response uploaded as a multipart file, optionally gzip-compressed
+     */
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, Object>> uploadResponseFile(@RequestParam("file") MultipartFile file,
+                                                                 @RequestParam String workspacePath) throws IOException {
+        logger.info("Parsing uploaded Claude response file {} ({} bytes) and generating code files at: {}",
+                file.getOriginalFilename(), file.getSize(), workspacePath);
+        
+        try (Reader reader = UploadStreams.openText(file.getInputStream(), properties.getUpload().getMaxSize(), StandardCharsets.UTF_8)) {
+            return uploadResult(codeGeneratorService.parseAndGenerateCode(reader, workspacePath));
+        }
+    }
+    
+    private ResponseEntity<Map<String, Object>> uploadResult(GeneratedCode generatedCode) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Code files generated successfully from uploaded response");
+        response.put("generatedCode", generatedCode);
+        response.put("totalFiles", generatedCode.getFiles().size());
+        response.put("unchangedFiles", generatedCode.countFiles(GeneratedCode.WriteStatus.UNCHANGED));
         
         return ResponseEntity.ok(response);
     }
@@ -175,7 +383,7 @@ public class CodeGenController {
                     fileInfo.put("filePath", file.getFilePath());
                     fileInfo.put("fileType", file.getFileType());
                     fileInfo.put("parserType", file.getParserType());
-                    fileInfo.put("contentLength", file.getContent().length());
+                    fileInfo.put("contentLength", file.getContentLength());
                     return fileInfo;
                 })
                 .toList();
@@ -204,6 +412,21 @@ public class CodeGenController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Get parse result cache hit and miss counters
+     */
+    @GetMapping("/parse-cache")
+    public ResponseEntity<Map<String, Object>> getParseCacheStats() {
+        ParseResultCache.CacheStats stats = codeGeneratorService.getParseCacheStats();
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Parse cache statistics retrieved successfully");
+        response.put("cache", stats);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * NEW: Detect applicable parsers for content
      */
@@ -264,9 +487,9 @@ public class CodeGenController {
                     fileInfo.put("parserType", file.getParserType());
                     fileInfo.put("valid", file.isValid());
                     fileInfo.put("errorMessage", file.getErrorMessage());
-                    fileInfo.put("contentLength", file.getContent() != null ? file.getContent().length() : 0);
-                    fileInfo.put("contentPreview", file.getContent() != null && file.getContent().length() > 100 
-                        ? file.getContent().substring(0, 100) + "..." 
+                    fileInfo.put("contentLength", file.getContentLength());
+                    fileInfo.put("contentPreview", file.getContentLength() > 100 
+                        ? file.getContentView().subSequence(0, 100) + "..." 
                         : file.getContent());
                     return fileInfo;
                 })
@@ -0,0 +1,88 @@
+// src/main/java/com/sonic/claudeforge/controller/JobController.java
+package com.sonic.claudeforge.controller;
+
+import com.sonic.claudeforge.model.GenerationJob;
+import com.sonic.claudeforge.model.ProjectConfig;
+import com.sonic.claudeforge.service.GenerationJobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.validation.Valid;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Background Generation Job Controller
+ * Submits parse-and-generate and project creation as jobs and reports their progress,
+ * so long generations do not hold request threads
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@CrossOrigin(origins = "*")
+public class JobController {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobController.class);
+
+    private final GenerationJobService generationJobService;
+
+    public JobController(GenerationJobService generationJobService) {
+        this.generationJobService = generationJobService;
+    }
+
+    @PostMapping("/parse-and-generate")
+    public ResponseEntity<Map<String, Object>> submitParseAndGenerate(@RequestBody Map<String, String> request) {
+        String claudeResponse = request.get("claudeResponse");
+        String workspacePath = request.get("workspacePath");
+        if (claudeResponse == null || workspacePath == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "claudeResponse and workspacePath are required");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        logger.info("Submitting parse-and-generate job for: {}", workspacePath);
+        return accepted(generationJobService.submitParseAndGenerate(claudeResponse, workspacePath));
+    }
+
+    @PostMapping("/create-project")
+    public ResponseEntity<Map<String, Object>> submitCreateProject(@Valid @RequestBody ProjectConfig config) {
+        logger.info("Submitting project creation job: {}", config.getProjectName());
+        return accepted(generationJobService.submitCreateProject(config));
+    }
+
+    /**
+     * Status, progress, per-file results and timings of a job
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable String id) {
+        GenerationJob job = generationJobService.getJob(id);
+
+        Map<String, Object> response = new HashMap<>();
+        if (job == null) {
+            response.put("success", false);
+            response.put("message", "No such job (it may have expired): " + id);
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+        response.put("success", true);
+        response.put("job", job);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 202 response pointing at a queued job; also used by endpoints that offer an async mode
+     */
+    static ResponseEntity<Map<String, Object>> accepted(GenerationJob job) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Job queued");
+        response.put("jobId", job.getId());
+        response.put("status", job.getStatus());
+        response.put("statusUrl", "/api/jobs/" + job.getId());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
\ No newline at end of file
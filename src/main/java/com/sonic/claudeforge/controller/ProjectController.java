@@ -1,12 +1,18 @@
 // src/main/java/com/sonic/claudeforge/controller/ProjectController.java
 package com.sonic.claudeforge.controller;
 
+import com.sonic.claudeforge.model.GeneratedCode;
 import com.sonic.claudeforge.model.ProjectConfig;
 import com.sonic.claudeforge.service.CodeGeneratorService;
+import com.sonic.claudeforge.service.GenerationJobService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.util.HashMap;
@@ -24,24 +30,64 @@ public class ProjectController {
     private static final Logger logger = LoggerFactory.getLogger(ProjectController.class);
     
     private final CodeGeneratorService codeGeneratorService;
+    private final GenerationJobService generationJobService;
     
-    public ProjectController(CodeGeneratorService codeGeneratorService) {
+    public ProjectController(CodeGeneratorService codeGeneratorService, GenerationJobService generationJobService) {
         this.codeGeneratorService = codeGeneratorService;
+        this.generationJobService = generationJobService;
     }
     
+    /**
+     * Create a project; with dryRun=true it is generated in memory and its files are returned
+     * With async=true it is queued as a background job instead and a 202 with the job id is returned
+     */
     @PostMapping("/create")
-    public ResponseEntity<Map<String, Object>> createProject(@Valid @RequestBody ProjectConfig config) {
-        logger.info("Creating new project: {}", config.getProjectName());
-        
-        String workspacePath = codeGeneratorService.generateProject(config);
+    public ResponseEntity<Map<String, Object>> createProject(@Valid @RequestBody ProjectConfig config,
+                                                             @RequestParam(defaultValue = "false") boolean dryRun,
+                                                             @RequestParam(defaultValue = "false") boolean async) {
+        logger.info("Creating new project: {}{}", config.getProjectName(), dryRun ? " (dry run)" : async ? " (async)" : "");
         
         Map<String, Object> response = new HashMap<>();
+        if (async && dryRun) {
+            response.put("success", false);
+            response.put("message", "dryRun and async cannot be combined");
+            return ResponseEntity.badRequest().body(response);
+        }
+        if (async) {
+            return JobController.accepted(generationJobService.submitCreateProject(config));
+        }
+        if (dryRun) {
+            GeneratedCode generatedCode = codeGeneratorService.generateProjectDryRun(config);
+            response.put("message", "Dry run: project generated in memory, nothing written to the workspace");
+            response.put("workspacePath", generatedCode.getWorkspacePath());
+            response.put("files", generatedCode.getFiles());
+            response.put("totalFiles", generatedCode.getFiles().size());
+        } else {
+            String workspacePath = codeGeneratorService.generateProject(config);
+            response.put("message", "Project created successfully");
+            response.put("workspacePath", workspacePath);
+        }
         response.put("success", true);
-        response.put("message", "Project created successfully");
+        response.put("dryRun", dryRun);
         response.put("projectName", config.getProjectName());
-        response.put("workspacePath", workspacePath);
         response.put("basePackage", config.getBasePackage());
         
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * Generate a project and download it as a ZIP, streamed as it is generated
+     * Nothing is written to the workspace, so any workspacePath in the config is ignored
+     */
+    @PostMapping("/create/zip")
+    public ResponseEntity<StreamingResponseBody> createProjectZip(@Valid @RequestBody ProjectConfig config) {
+        logger.info("Streaming new project as a ZIP: {}", config.getProjectName());
+        
+        StreamingResponseBody body = out -> codeGeneratorService.generateProjectZip(config, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(config.getProjectName() + ".zip").build().toString())
+                .body(body);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+// src/main/java/com/sonic/claudeforge/exception/BatchQueueFullException.java
+package com.sonic.claudeforge.exception;
+
+/**
+ * Thrown when a batch request arrives while the maximum number of batches is already in progress
+ */
+public class BatchQueueFullException extends RuntimeException {
+
+    public BatchQueueFullException(int maxConcurrent) {
+        super("Too many batches in progress (limit " + maxConcurrent + "); try again later");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+// src/main/java/com/sonic/claudeforge/exception/BatchTooLargeException.java
+package com.sonic.claudeforge.exception;
+
+/**
+ * Thrown when a batch request holds more items than the configured maximum
+ */
+public class BatchTooLargeException extends RuntimeException {
+
+    private final int maxItems;
+
+    public BatchTooLargeException(int items, int maxItems) {
+        super("Batch of " + items + " items exceeds the maximum of " + maxItems);
+        this.maxItems = maxItems;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+}
\ No newline at end of file
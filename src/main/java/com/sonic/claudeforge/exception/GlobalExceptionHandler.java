@@ -10,6 +10,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.util.DisconnectedClientHelper;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -54,8 +56,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(response);
     }
     
+    @ExceptionHandler({UploadTooLargeException.class, MaxUploadSizeExceededException.class, BatchTooLargeException.class})
+    public ResponseEntity<Map<String, Object>> handlePayloadTooLarge(Exception ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", ex.getMessage());
+        response.put("timestamp", LocalDateTime.now());
+        
+        logger.warn("Rejected oversized request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    }
+    
+    @ExceptionHandler({JobQueueFullException.class, BatchQueueFullException.class})
+    public ResponseEntity<Map<String, Object>> handleQueueFull(RuntimeException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", ex.getMessage());
+        response.put("timestamp", LocalDateTime.now());
+        
+        logger.warn("Rejected work: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericError(Exception ex) {
+        if (DisconnectedClientHelper.isClientDisconnectedException(ex)) {
+            // The client went away (e.g. closed an event stream); there is no one to answer
+            logger.debug("Client disconnected: {}", ex.getMessage());
+            return null;
+        }
+        
         Map<String, Object> response = new HashMap<>();
         response.put("success", false);
         response.put("message", "An error occurred: " + ex.getMessage());
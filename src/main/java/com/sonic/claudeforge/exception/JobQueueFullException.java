@@ -0,0 +1,12 @@
+// src/main/java/com/sonic/claudeforge/exception/JobQueueFullException.java
+package com.sonic.claudeforge.exception;
+
+/**
+ * Thrown when a generation job is submitted while the job queue is full
+ */
+public class JobQueueFullException extends RuntimeException {
+
+    public JobQueueFullException(int capacity) {
+        super("Too many generation jobs waiting (queue capacity " + capacity + "); try again later");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+// src/main/java/com/sonic/claudeforge/exception/UploadTooLargeException.java
+package com.sonic.claudeforge.exception;
+
+/**
+ * Thrown when an uploaded Claude response grows past the configured maximum size
+ */
+public class UploadTooLargeException extends RuntimeException {
+    
+    private final long maxSize;
+    
+    public UploadTooLargeException(long maxSize) {
+        super("Upload exceeds the maximum size of " + maxSize + " bytes");
+        this.maxSize = maxSize;
+    }
+    
+    public long getMaxSize() {
+        return maxSize;
+    }
+}
\ No newline at end of file
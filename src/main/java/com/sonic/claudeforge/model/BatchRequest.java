@@ -0,0 +1,29 @@
+// src/main/java/com/sonic/claudeforge/model/BatchRequest.java
+package com.sonic.claudeforge.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Several Claude responses to parse and generate in one request
+ */
+public class BatchRequest {
+
+    private List<Item> items = new ArrayList<>();
+
+    // @GENERATE_GETTERS_SETTERS
+    public List<Item> getItems() { return items; }
+    public void setItems(List<Item> items) { this.items = items; }
+
+    public static class Item {
+        private String claudeResponse;
+        private String workspacePath;
+
+        // @GENERATE_GETTERS_SETTERS
+        public String getClaudeResponse() { return claudeResponse; }
+        public void setClaudeResponse(String claudeResponse) { this.claudeResponse = claudeResponse; }
+
+        public String getWorkspacePath() { return workspacePath; }
+        public void setWorkspacePath(String workspacePath) { this.workspacePath = workspacePath; }
+    }
+}
\ No newline at end of file
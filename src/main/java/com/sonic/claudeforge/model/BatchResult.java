@@ -0,0 +1,43 @@
+// src/main/java/com/sonic/claudeforge/model/BatchResult.java
+package com.sonic.claudeforge.model;
+
+/**
+ * Outcome of one item of a {@link BatchRequest}
+ */
+public class BatchResult {
+
+    private int index;
+    private String workspacePath;
+    private boolean success;
+    private String message;
+    private int totalFiles;
+    private GeneratedCode generatedCode;
+
+    public static BatchResult succeeded(int index, GeneratedCode generatedCode) {
+        BatchResult result = new BatchResult();
+        result.index = index;
+        result.workspacePath = generatedCode.getWorkspacePath();
+        result.success = true;
+        result.message = "Code files generated successfully";
+        result.totalFiles = generatedCode.getFiles().size();
+        result.generatedCode = generatedCode;
+        return result;
+    }
+
+    public static BatchResult failed(int index, String workspacePath, String message) {
+        BatchResult result = new BatchResult();
+        result.index = index;
+        result.workspacePath = workspacePath;
+        result.success = false;
+        result.message = message;
+        return result;
+    }
+
+    // @GENERATE_GETTERS_SETTERS
+    public int getIndex() { return index; }
+    public String getWorkspacePath() { return workspacePath; }
+    public boolean isSuccess() { return success; }
+    public String getMessage() { return message; }
+    public int getTotalFiles() { return totalFiles; }
+    public GeneratedCode getGeneratedCode() { return generatedCode; }
+}
\ No newline at end of file
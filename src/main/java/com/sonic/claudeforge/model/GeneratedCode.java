@@ -1,6 +1,8 @@
 // src/main/java/com/sonic/claudeforge/model/GeneratedCode.java
 package com.sonic.claudeforge.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -24,11 +26,44 @@ public class GeneratedCode {
     public String getClaudeResponse() { return claudeResponse; }
     public void setClaudeResponse(String claudeResponse) { this.claudeResponse = claudeResponse; }
     
+    /**
+     * Count the files with the given write status
+     */
+    public int countFiles(WriteStatus status) {
+        int count = 0;
+        for (GeneratedFile file : files) {
+            if (file.getWriteStatus() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Outcome of writing a generated file to the workspace
+     */
+    public enum WriteStatus {
+        WRITTEN,
+        UNCHANGED,
+        FAILED
+    }
+    
     public static class GeneratedFile {
         private String fileName;
         private String filePath;
-        private String content;
+        private CharSequence content;
         private String fileType;
+        // Null when the file was not written (e.g. a preview)
+        private volatile WriteStatus writeStatus;
+        private String writeError;
+        
+        /**
+         * Get the content without copying it out of the Claude response
+         */
+        @JsonIgnore
+        public CharSequence getContentView() {
+            return content;
+        }
         
         // @GENERATE_GETTERS_SETTERS
         public String getFileName() { return fileName; }
@@ -37,10 +72,16 @@ public class GeneratedCode {
         public String getFilePath() { return filePath; }
         public void setFilePath(String filePath) { this.filePath = filePath; }
         
-        public String getContent() { return content; }
-        public void setContent(String content) { this.content = content; }
+        public String getContent() { return content != null ? content.toString() : null; }
+        public void setContent(CharSequence content) { this.content = content; }
         
         public String getFileType() { return fileType; }
         public void setFileType(String fileType) { this.fileType = fileType; }
+        
+        public WriteStatus getWriteStatus() { return writeStatus; }
+        public void setWriteStatus(WriteStatus writeStatus) { this.writeStatus = writeStatus; }
+        
+        public String getWriteError() { return writeError; }
+        public void setWriteError(String writeError) { this.writeError = writeError; }
     }
 }
\ No newline at end of file
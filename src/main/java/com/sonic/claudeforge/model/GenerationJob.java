@@ -0,0 +1,171 @@
+// src/main/java/com/sonic/claudeforge/model/GenerationJob.java
+package com.sonic.claudeforge.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A generation run in the background, polled by its ID
+ * Updated by the job's thread and the file writer threads while clients read it
+ */
+public class GenerationJob {
+    
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+    
+    private final String id = UUID.randomUUID().toString();
+    private final String type;
+    private final String workspacePath;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final long submittedNanos = System.nanoTime();
+    private volatile Status status = Status.QUEUED;
+    private volatile String stage;
+    private volatile String message;
+    private volatile String resultPath;
+    private volatile int totalFiles;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private final AtomicInteger completedFiles = new AtomicInteger();
+    private final Queue<FileResult> files = new ConcurrentLinkedQueue<>();
+    
+    // Milliseconds per stage, in order; it guards the timestamps below as well
+    private final Map<String, Long> stageMillis = new LinkedHashMap<>();
+    private long stageStartNanos;
+    private long startedNanos;
+    private long finishedNanos;
+    
+    public GenerationJob(String type, String workspacePath) {
+        this.type = type;
+        this.workspacePath = workspacePath;
+    }
+    
+    public void started() {
+        synchronized (stageMillis) {
+            startedNanos = System.nanoTime();
+        }
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+    
+    /**
+     * Enter a new stage, closing the timing of the previous one
+     */
+    public void stage(String stage) {
+        synchronized (stageMillis) {
+            closeStage();
+            stageStartNanos = System.nanoTime();
+            this.stage = stage;
+        }
+    }
+    
+    public void parsed(int files) {
+        this.totalFiles = files;
+    }
+    
+    public void fileCompleted(GeneratedCode.GeneratedFile file) {
+        files.add(new FileResult(file));
+        completedFiles.incrementAndGet();
+    }
+    
+    public void succeeded(String resultPath, String message) {
+        this.resultPath = resultPath;
+        finish(Status.SUCCEEDED, message);
+    }
+    
+    public void failed(String message) {
+        finish(Status.FAILED, message);
+    }
+    
+    private void finish(Status status, String message) {
+        synchronized (stageMillis) {
+            closeStage();
+            stage = null;
+            finishedNanos = System.nanoTime();
+        }
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+    
+    private void closeStage() {
+        if (stage != null) {
+            stageMillis.merge(stage, millisSince(stageStartNanos), Long::sum);
+        }
+    }
+    
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED;
+    }
+    
+    /**
+     * Milliseconds spent queued, in each stage so far and in total
+     */
+    public Map<String, Long> getTimings() {
+        synchronized (stageMillis) {
+            Map<String, Long> timings = new LinkedHashMap<>();
+            if (startedNanos == 0) {
+                timings.put("queued", millisSince(submittedNanos));
+                return timings;
+            }
+            timings.put("queued", TimeUnit.NANOSECONDS.toMillis(startedNanos - submittedNanos));
+            timings.putAll(stageMillis);
+            if (stage != null) {
+                timings.merge(stage, millisSince(stageStartNanos), Long::sum);
+            }
+            long end = finishedNanos != 0 ? finishedNanos : System.nanoTime();
+            timings.put("total", TimeUnit.NANOSECONDS.toMillis(end - submittedNanos));
+            return timings;
+        }
+    }
+    
+    private static long millisSince(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - nanos);
+    }
+    
+    // @GENERATE_GETTERS_SETTERS
+    public String getId() { return id; }
+    public String getType() { return type; }
+    public String getWorkspacePath() { return workspacePath; }
+    public Status getStatus() { return status; }
+    public String getStage() { return stage; }
+    public String getMessage() { return message; }
+    public String getResultPath() { return resultPath; }
+    public int getTotalFiles() { return totalFiles; }
+    public int getCompletedFiles() { return completedFiles.get(); }
+    public List<FileResult> getFiles() { return new ArrayList<>(files); }
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    
+    /**
+     * Outcome of one file, without its content
+     */
+    public static class FileResult {
+        private final String filePath;
+        private final GeneratedCode.WriteStatus writeStatus;
+        private final String writeError;
+        
+        FileResult(GeneratedCode.GeneratedFile file) {
+            this.filePath = file.getFilePath();
+            this.writeStatus = file.getWriteStatus();
+            this.writeError = file.getWriteError();
+        }
+        
+        // @GENERATE_GETTERS_SETTERS
+        public String getFilePath() { return filePath; }
+        public GeneratedCode.WriteStatus getWriteStatus() { return writeStatus; }
+        public String getWriteError() { return writeError; }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+// src/main/java/com/sonic/claudeforge/service/BatchGenerationService.java
+package com.sonic.claudeforge.service;
+
+import com.sonic.claudeforge.config.ClaudeForgeProperties;
+import com.sonic.claudeforge.exception.BatchQueueFullException;
+import com.sonic.claudeforge.exception.BatchTooLargeException;
+import com.sonic.claudeforge.model.BatchRequest;
+import com.sonic.claudeforge.model.BatchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Parses and generates many Claude responses per request on the shared batch pool
+ * Items for different workspaces run concurrently; items for the same workspace run one after
+ * another in request order, so a replayed sequence leaves the same files as separate requests
+ * Only a limited number of batches are accepted at once, so queued work stays bounded
+ */
+@Service
+public class BatchGenerationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchGenerationService.class);
+
+    private final CodeGeneratorService codeGeneratorService;
+    private final ExecutorService batchExecutor;
+    private final int maxItems;
+    private final int maxConcurrent;
+    private final Semaphore batchPermits;
+
+    public BatchGenerationService(CodeGeneratorService codeGeneratorService,
+                                  @Qualifier("batchExecutor") ExecutorService batchExecutor,
+                                  ClaudeForgeProperties properties) {
+        this.codeGeneratorService = codeGeneratorService;
+        this.batchExecutor = batchExecutor;
+        this.maxItems = properties.getBatch().getMaxItems();
+        this.maxConcurrent = Math.max(1, properties.getBatch().getMaxConcurrent());
+        this.batchPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Parse and generate every item of a batch
+     * A failing item does not stop the others
+     * @param items Responses with their target workspaces
+     * @return One result per item, in request order
+     * @throws BatchTooLargeException if the batch has more items than allowed
+     * @throws BatchQueueFullException if the maximum number of batches is already in progress
+     */
+    public List<BatchResult> parseAndGenerate(List<BatchRequest.Item> items) {
+        if (items.size() > maxItems) {
+            throw new BatchTooLargeException(items.size(), maxItems);
+        }
+        if (!batchPermits.tryAcquire()) {
+            throw new BatchQueueFullException(maxConcurrent);
+        }
+        try {
+            return generateAll(items);
+        } finally {
+            batchPermits.release();
+        }
+    }
+
+    private List<BatchResult> generateAll(List<BatchRequest.Item> items) {
+        logger.info("Generating batch of {} items", items.size());
+
+        BatchResult[] results = new BatchResult[items.size()];
+        Map<String, List<Integer>> itemsByWorkspace = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchRequest.Item item = items.get(i);
+            if (item == null || item.getClaudeResponse() == null || item.getWorkspacePath() == null) {
+                results[i] = BatchResult.failed(i, item != null ? item.getWorkspacePath() : null,
+                        "claudeResponse and workspacePath are required");
+                continue;
+            }
+            itemsByWorkspace.computeIfAbsent(workspaceKey(item.getWorkspacePath()), key -> new ArrayList<>()).add(i);
+        }
+
+        List<Future<?>> futures = new ArrayList<>(itemsByWorkspace.size());
+        for (List<Integer> indexes : itemsByWorkspace.values()) {
+            futures.add(batchExecutor.submit(() -> {
+                for (int index : indexes) {
+                    results[index] = generate(index, items.get(index));
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+        } catch (ExecutionException e) {
+            // generate() catches everything, so this is an Error; let it surface
+            throw new IllegalStateException("Batch item failed unexpectedly", e.getCause());
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                results[i] = BatchResult.failed(i, items.get(i).getWorkspacePath(), "Batch was interrupted");
+            }
+        }
+
+        long failed = Arrays.stream(results).filter(result -> !result.isSuccess()).count();
+        logger.info("Batch completed: {} succeeded, {} failed", results.length - failed, failed);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Key grouping items that write to the same directory, however its path is spelled
+     */
+    private static String workspaceKey(String workspacePath) {
+        try {
+            return Paths.get(workspacePath).toAbsolutePath().normalize().toString();
+        } catch (InvalidPathException e) {
+            // The item fails on its own when it is generated
+            return workspacePath;
+        }
+    }
+
+    private BatchResult generate(int index, BatchRequest.Item item) {
+        try {
+            return BatchResult.succeeded(index,
+                    codeGeneratorService.parseAndGenerateCode(item.getClaudeResponse(), item.getWorkspacePath()));
+        } catch (Exception e) {
+            logger.error("Batch item {} for {} failed: {}", index, item.getWorkspacePath(), e.getMessage(), e);
+            return BatchResult.failed(index, item.getWorkspacePath(), e.getMessage());
+        }
+    }
+}
\ No newline at end of file
@@ -5,20 +5,29 @@ import com.sonic.claudeforge.model.GeneratedCode;
 import com.sonic.claudeforge.model.ProjectConfig;
 import com.sonic.claudeforge.model.ProjectStructureStyle;
 import com.sonic.claudeforge.service.codegenerator.JavaCodeGeneratorService;
+import com.sonic.claudeforge.service.codegenerator.MemoryProjectOutput;
+import com.sonic.claudeforge.service.codegenerator.ProjectOutput;
 import com.sonic.claudeforge.service.codegenerator.ReactCodeGeneratorService;
+import com.sonic.claudeforge.service.codegenerator.WorkspaceProjectOutput;
+import com.sonic.claudeforge.service.codegenerator.ZipProjectOutput;
 import com.sonic.claudeforge.service.parser.CodeParseManager;
 import com.sonic.claudeforge.service.parser.ParseResult;
+import com.sonic.claudeforge.service.parser.ParseResultCache;
+import com.sonic.claudeforge.service.parser.ParseSession;
 import com.sonic.claudeforge.service.parser.ParsedFile;
-import com.sonic.claudeforge.util.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Updated Code Generator Service with modular parser system
@@ -32,7 +41,8 @@ public class CodeGeneratorService {
     private final JavaCodeGeneratorService javaCodeGeneratorService;
     private final ReactCodeGeneratorService reactCodeGeneratorService;
     private final CodeParseManager codeParseManager;
-    private final FileUtils fileUtils;
+    private final WorkspaceProjectOutput workspaceOutput;
+    private final GeneratedFileWriter fileWriter;
     
     @Value("${claudeforge.workspace.base-path}")
     private String workspaceBasePath;
@@ -40,14 +50,50 @@ public class CodeGeneratorService {
     public CodeGeneratorService(JavaCodeGeneratorService javaCodeGeneratorService,
                                ReactCodeGeneratorService reactCodeGeneratorService,
                                CodeParseManager codeParseManager,
-                               FileUtils fileUtils) {
+                               WorkspaceProjectOutput workspaceOutput,
+                               GeneratedFileWriter fileWriter) {
         this.javaCodeGeneratorService = javaCodeGeneratorService;
         this.reactCodeGeneratorService = reactCodeGeneratorService;
         this.codeParseManager = codeParseManager;
-        this.fileUtils = fileUtils;
+        this.workspaceOutput = workspaceOutput;
+        this.fileWriter = fileWriter;
     }
     
     public String generateProject(ProjectConfig config) {
+        return generateProject(config, workspaceOutput);
+    }
+    
+    /**
+     * Generate a project in memory and return its files; nothing is written to disk
+     * @return The generated files, with paths relative to the workspace, and the project's path
+     */
+    public GeneratedCode generateProjectDryRun(ProjectConfig config) {
+        if (config.getWorkspacePath() == null || config.getWorkspacePath().isEmpty()) {
+            config.setWorkspacePath(workspaceBasePath);
+        }
+        MemoryProjectOutput memory = new MemoryProjectOutput(config.getWorkspacePath());
+        String resultPath = generateProject(config, memory);
+        
+        GeneratedCode generatedCode = new GeneratedCode();
+        generatedCode.setWorkspacePath(resultPath);
+        generatedCode.setGeneratedAt(LocalDateTime.now());
+        generatedCode.setFiles(toGeneratedFiles(memory.getFiles()));
+        return generatedCode;
+    }
+    
+    /**
+     * Generate a project and stream it as a ZIP archive; nothing is written to the workspace
+     * Entries are named relative to the workspace, so they start with the project's folder
+     * @param out Receives the archive as it is generated; left open
+     */
+    public void generateProjectZip(ProjectConfig config, OutputStream out) throws IOException {
+        ZipProjectOutput zip = new ZipProjectOutput(out);
+        config.setWorkspacePath(ZipProjectOutput.ROOT);
+        generateProject(config, zip);
+        zip.complete();
+    }
+    
+    private String generateProject(ProjectConfig config, ProjectOutput output) {
         logger.info("Generating project with style: {} - {}", 
                 config.getProjectStructureStyle(), config.getProjectName());
         
@@ -61,15 +107,15 @@ public class CodeGeneratorService {
         switch (config.getProjectStructureStyle()) {
             case JAVA_REST_API:
             case JAVA_REST_API_WITH_STATIC:
-                resultPath = javaCodeGeneratorService.generateJavaProject(config);
+                resultPath = javaCodeGeneratorService.generateJavaProject(config, output);
                 break;
                 
             case FULL_STACK_SEPARATED:
-                resultPath = generateFullStackSeparated(config);
+                resultPath = generateFullStackSeparated(config, output);
                 break;
                 
             case REACT_WEB_ONLY:
-                resultPath = reactCodeGeneratorService.generateReactProject(config);
+                resultPath = reactCodeGeneratorService.generateReactProject(config, output);
                 break;
                 
             default:
@@ -80,23 +126,23 @@ public class CodeGeneratorService {
         return resultPath;
     }
     
-    private String generateFullStackSeparated(ProjectConfig config) {
+    private String generateFullStackSeparated(ProjectConfig config, ProjectOutput output) {
         logger.info("Generating full-stack separated project: {}", config.getProjectName());
         
         // Create parent directory
         String parentPath = config.getWorkspacePath() + File.separator + config.getProjectName();
-        fileUtils.createDirectory(parentPath);
+        output.createDirectory(parentPath);
         
         // Generate backend project
-        String backendPath = javaCodeGeneratorService.generateJavaProject(config);
+        String backendPath = javaCodeGeneratorService.generateJavaProject(config, output);
         logger.info("Backend generated at: {}", backendPath);
         
         // Generate frontend project  
-        String frontendPath = reactCodeGeneratorService.generateReactProject(config);
+        String frontendPath = reactCodeGeneratorService.generateReactProject(config, output);
         logger.info("Frontend generated at: {}", frontendPath);
         
         // Generate parent README
-        generateParentReadme(parentPath, config);
+        generateParentReadme(parentPath, config, output);
         
         return parentPath;
     }
@@ -105,6 +151,13 @@ public class CodeGeneratorService {
      * NEW: Parse and generate code using the modular parser system
      */
     public GeneratedCode parseAndGenerateCode(String claudeResponse, String workspacePath) {
+        return parseAndGenerateCode(claudeResponse, workspacePath, GenerationListener.NONE);
+    }
+    
+    /**
+     * Parse and generate code, reporting progress as it goes
+     */
+    public GeneratedCode parseAndGenerateCode(String claudeResponse, String workspacePath, GenerationListener listener) {
         logger.info("Parsing Claude response using modular parser system (content length: {})", claudeResponse.length());
         
         GeneratedCode generatedCode = new GeneratedCode();
@@ -113,8 +166,102 @@ public class CodeGeneratorService {
         generatedCode.setClaudeResponse(claudeResponse);
         
         // Use the new modular parser system
+        listener.stage("parsing");
+        ParseResult parseResult = codeParseManager.parseAll(claudeResponse);
+        
+        generatedCode.setFiles(writeParsedFiles(parseResult, workspacePath, listener));
+        return generatedCode;
+    }
+    
+    /**
+     * Parse and generate without writing anything; every valid file is reported as WRITTEN,
+     * which is what generating into an empty workspace would do
+     */
+    public GeneratedCode parseAndGenerateCodeDryRun(String claudeResponse, String workspacePath) {
+        logger.info("Dry run: parsing Claude response (content length: {})", claudeResponse.length());
+        
+        GeneratedCode generatedCode = new GeneratedCode();
+        generatedCode.setWorkspacePath(workspacePath);
+        generatedCode.setGeneratedAt(LocalDateTime.now());
+        generatedCode.setClaudeResponse(claudeResponse);
+        
         ParseResult parseResult = codeParseManager.parseAll(claudeResponse);
+        generatedCode.setFiles(writeParsedFiles(parseResult, null, GenerationListener.NONE));
+        return generatedCode;
+    }
+    
+    /**
+     * Parse a response read incrementally (e.g. from an upload) and generate code
+     * The response text is not kept, so the result carries no claudeResponse
+     */
+    public GeneratedCode parseAndGenerateCode(Reader claudeResponse, String workspacePath) throws IOException {
+        logger.info("Parsing streamed Claude response using modular parser system");
+        
+        GeneratedCode generatedCode = new GeneratedCode();
+        generatedCode.setWorkspacePath(workspacePath);
+        generatedCode.setGeneratedAt(LocalDateTime.now());
+        
+        ParseResult parseResult = codeParseManager.parseStream(claudeResponse);
+        
+        generatedCode.setFiles(writeParsedFiles(parseResult, workspacePath));
+        return generatedCode;
+    }
+    
+    /**
+     * Parse a revision of a response already generated in this session
+     * Only blocks that changed since the session's previous revision are reparsed; the workspace
+     * manifest decides which files are rewritten, so files edited or deleted on disk are restored.
+     * Files that disappeared from the response are left on disk
+     */
+    public GeneratedCode parseAndGenerateCode(String claudeResponse, String workspacePath, ParseSession session) {
+        logger.info("Incrementally parsing Claude response (content length: {})", claudeResponse.length());
         
+        GeneratedCode generatedCode = new GeneratedCode();
+        generatedCode.setWorkspacePath(workspacePath);
+        generatedCode.setGeneratedAt(LocalDateTime.now());
+        generatedCode.setClaudeResponse(claudeResponse);
+        
+        // Hold the session across parse and write so concurrent revisions cannot interleave
+        synchronized (session) {
+            ParseResult parseResult = codeParseManager.parseIncremental(claudeResponse, session);
+            generatedCode.setFiles(writeParsedFiles(parseResult, workspacePath));
+        }
+        return generatedCode;
+    }
+    
+    /**
+     * Parse a response and stream its valid files as a ZIP archive; nothing is written to the workspace
+     * Files whose path leads outside the archive are skipped
+     * @param out Receives the archive, starting with the first file; left open
+     */
+    public void parseAndGenerateZip(String claudeResponse, OutputStream out) throws IOException {
+        logger.info("Parsing Claude response into a ZIP (content length: {})", claudeResponse.length());
+        
+        ParseResult parseResult = codeParseManager.parseAll(claudeResponse);
+        logger.info("Parsing summary:\n{}", parseResult.getSummary());
+        
+        ZipProjectOutput zip = new ZipProjectOutput(out);
+        for (ParsedFile parsedFile : parseResult.getValidFiles()) {
+            try {
+                zip.writeFile(ZipProjectOutput.ROOT, ZipProjectOutput.ROOT + "/" + parsedFile.getFilePath(), parsedFile.getContentView());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping file: {}", e.getMessage());
+            }
+        }
+        zip.complete();
+    }
+    
+    private List<GeneratedCode.GeneratedFile> writeParsedFiles(ParseResult parseResult, String workspacePath) {
+        return writeParsedFiles(parseResult, workspacePath, GenerationListener.NONE);
+    }
+    
+    /**
+     * Write the valid files of a parse result to the workspace and log what was skipped
+     * @param workspacePath Workspace to write to, or null for a dry run that only marks the files WRITTEN
+     * @param listener Told about each file as it is written
+     */
+    private List<GeneratedCode.GeneratedFile> writeParsedFiles(ParseResult parseResult, String workspacePath,
+                                                               GenerationListener listener) {
         // Log parsing summary
         logger.info("Parsing summary:\n{}", parseResult.getSummary());
         
@@ -122,16 +269,22 @@ public class CodeGeneratorService {
         List<GeneratedCode.GeneratedFile> generatedFiles = new ArrayList<>();
         
         for (ParsedFile parsedFile : parseResult.getValidFiles()) {
-            GeneratedCode.GeneratedFile generatedFile = new GeneratedCode.GeneratedFile();
-            generatedFile.setFileName(parsedFile.getFileName());
-            generatedFile.setFilePath(parsedFile.getFilePath());
-            generatedFile.setContent(parsedFile.getContent());
-            generatedFile.setFileType(parsedFile.getFileType() + " (" + parsedFile.getParserType() + ")");
-            
+            GeneratedCode.GeneratedFile generatedFile = toGeneratedFile(parsedFile);
             generatedFiles.add(generatedFile);
-            
-            // Write file to workspace
-            writeGeneratedFile(workspacePath, parsedFile.getFilePath(), parsedFile.getContent());
+            listener.fileParsed(generatedFile);
+        }
+        
+        for (ParsedFile invalidFile : parseResult.getInvalidFiles()) {
+            listener.fileInvalid(invalidFile.getFilePath(), invalidFile.getErrorMessage());
+        }
+        
+        // Write files to workspace
+        listener.parsed(generatedFiles.size());
+        listener.stage("writing");
+        if (workspacePath != null) {
+            fileWriter.write(workspacePath, generatedFiles, listener);
+        } else {
+            generatedFiles.forEach(file -> file.setWriteStatus(GeneratedCode.WriteStatus.WRITTEN));
         }
         
         // Log invalid files for debugging
@@ -149,11 +302,10 @@ public class CodeGeneratorService {
                 logger.warn("  {}: {}", parser, error));
         }
         
-        generatedCode.setFiles(generatedFiles);
         logger.info("Successfully generated {} files using parsers: {}", 
                 generatedFiles.size(), parseResult.getSuccessfulParsers());
         
-        return generatedCode;
+        return generatedFiles;
     }
     
     /**
@@ -181,17 +333,11 @@ public class CodeGeneratorService {
         List<GeneratedCode.GeneratedFile> generatedFiles = new ArrayList<>();
         
         for (ParsedFile parsedFile : parseResult.getValidFiles()) {
-            GeneratedCode.GeneratedFile generatedFile = new GeneratedCode.GeneratedFile();
-            generatedFile.setFileName(parsedFile.getFileName());
-            generatedFile.setFilePath(parsedFile.getFilePath());
-            generatedFile.setContent(parsedFile.getContent());
-            generatedFile.setFileType(parsedFile.getFileType() + " (" + parsedFile.getParserType() + ")");
-            
-            generatedFiles.add(generatedFile);
-            
-            if (writeFiles && !workspacePath.equals("/tmp/test")) {
-                writeGeneratedFile(workspacePath, parsedFile.getFilePath(), parsedFile.getContent());
-            }
+            generatedFiles.add(toGeneratedFile(parsedFile));
+        }
+        
+        if (writeFiles && !workspacePath.equals("/tmp/test")) {
+            fileWriter.write(workspacePath, generatedFiles);
         }
         
         generatedCode.setFiles(generatedFiles);
@@ -214,6 +360,13 @@ public class CodeGeneratorService {
         return codeParseManager.detectApplicableParsers(content);
     }
     
+    /**
+     * Get parse result cache counters
+     */
+    public ParseResultCache.CacheStats getParseCacheStats() {
+        return codeParseManager.getCacheStats();
+    }
+    
     /**
      * NEW: Preview parsing without writing files
      */
@@ -222,19 +375,32 @@ public class CodeGeneratorService {
         return codeParseManager.parseAll(claudeResponse);
     }
     
-    private void writeGeneratedFile(String workspacePath, String filePath, String content) {
-        String fullPath = workspacePath + File.separator + filePath;
-        
-        File file = new File(fullPath);
-        fileUtils.createDirectory(file.getParent());
-        
-        logger.debug("Writing file: {} with {} characters", fullPath, content.length());
-        
-        fileUtils.writeFile(fullPath, content);
-        logger.info("Generated file: {} ({} chars)", fullPath, content.length());
+    /**
+     * Files collected in memory by a dry run, in path order
+     */
+    private static List<GeneratedCode.GeneratedFile> toGeneratedFiles(Map<String, String> contents) {
+        List<GeneratedCode.GeneratedFile> files = new ArrayList<>(contents.size());
+        contents.forEach((path, content) -> {
+            GeneratedCode.GeneratedFile file = new GeneratedCode.GeneratedFile();
+            file.setFileName(path.substring(path.lastIndexOf('/') + 1));
+            file.setFilePath(path);
+            file.setContent(content);
+            file.setWriteStatus(GeneratedCode.WriteStatus.WRITTEN);
+            files.add(file);
+        });
+        return files;
+    }
+    
+    private GeneratedCode.GeneratedFile toGeneratedFile(ParsedFile parsedFile) {
+        GeneratedCode.GeneratedFile generatedFile = new GeneratedCode.GeneratedFile();
+        generatedFile.setFileName(parsedFile.getFileName());
+        generatedFile.setFilePath(parsedFile.getFilePath());
+        generatedFile.setContent(parsedFile.getContentView());
+        generatedFile.setFileType(parsedFile.getFileType() + " (" + parsedFile.getParserType() + ")");
+        return generatedFile;
     }
     
-    private void generateParentReadme(String parentPath, ProjectConfig config) {
+    private void generateParentReadme(String parentPath, ProjectConfig config, ProjectOutput output) {
         String readme = String.format("""
             # %s
             
@@ -328,7 +494,8 @@ public class CodeGeneratorService {
             config.getJavaVersion()
         );
         
-        fileUtils.writeFile(parentPath + "/README.md", readme);
+        output.writeFile(parentPath, parentPath + "/README.md", readme);
+        output.finish(parentPath);
     }
     
     private String getDatabaseInstructions(ProjectConfig config) {
@@ -0,0 +1,367 @@
+// src/main/java/com/sonic/claudeforge/service/GeneratedFileWriter.java
+package com.sonic.claudeforge.service;
+
+import com.sonic.claudeforge.config.ClaudeForgeProperties;
+import com.sonic.claudeforge.config.ClaudeForgeProperties.Writer.Durability;
+import com.sonic.claudeforge.model.GeneratedCode;
+import com.sonic.claudeforge.util.FileUtils;
+import com.sonic.claudeforge.util.WorkspaceManifest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Writes generated files into a workspace
+ * Every directory the files need is created once up front, then the files are written in
+ * parallel on the bounded file writer pool; each file's outcome is recorded on it
+ * Files the workspace manifest shows already hold their content are not rewritten, and written
+ * files are forced to disk as the configured durability mode asks
+ */
+@Component
+public class GeneratedFileWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneratedFileWriter.class);
+
+    private final FileUtils fileUtils;
+    private final ExecutorService fileWriterExecutor;
+    private final Durability durability;
+    private final WriterMetrics metrics;
+    // Manifests of workspaces being written right now; dropped once the last writer has saved
+    private final Map<Path, OpenManifest> manifests = new ConcurrentHashMap<>();
+    // Manifest held by each run of writeFile calls until its finish call
+    private final Map<Path, WorkspaceManifest> runManifests = new ConcurrentHashMap<>();
+    // Files written by writeFile calls and not yet forced, per workspace (batched durability only)
+    private final Map<Path, Queue<Path>> pendingForces = new ConcurrentHashMap<>();
+
+    public GeneratedFileWriter(FileUtils fileUtils,
+                               @Qualifier("fileWriterExecutor") ExecutorService fileWriterExecutor,
+                               ClaudeForgeProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.fileUtils = fileUtils;
+        this.fileWriterExecutor = fileWriterExecutor;
+        this.durability = properties.getWriter().getDurability();
+        this.metrics = new WriterMetrics(meterRegistry, durability);
+        logger.info("File writer durability: {}", durability);
+    }
+
+    /**
+     * Write files into a workspace, setting each file's write status
+     * A file that cannot be written is marked failed; the other files are still written
+     * @param workspacePath Directory the file paths are relative to
+     * @param files Files to write
+     * @return Number of files that failed
+     */
+    public int write(String workspacePath, List<GeneratedCode.GeneratedFile> files) {
+        return write(workspacePath, files, GenerationListener.NONE);
+    }
+
+    /**
+     * Write files into a workspace, telling the listener about each file once its status is set
+     * The listener is only called on the calling thread, in file order, so a listener that blocks
+     * (e.g. a slow progress stream) holds up this write alone and never a pool thread
+     */
+    public int write(String workspacePath, List<GeneratedCode.GeneratedFile> files, GenerationListener listener) {
+        if (files.isEmpty()) {
+            return 0;
+        }
+        Path workspace = workspaceOf(workspacePath);
+        WorkspaceManifest manifest = acquireManifest(workspace);
+        try {
+            return write(workspacePath, files, listener, manifest);
+        } finally {
+            manifest.save();
+            releaseManifest(workspace);
+        }
+    }
+
+    private int write(String workspacePath, List<GeneratedCode.GeneratedFile> files, GenerationListener listener,
+                      WorkspaceManifest manifest) {
+        List<Path> targets = new ArrayList<>(files.size());
+        Set<Path> directories = new HashSet<>();
+        for (GeneratedCode.GeneratedFile file : files) {
+            Path target = Paths.get(workspacePath + File.separator + file.getFilePath());
+            targets.add(target);
+            if (target.getParent() != null) {
+                directories.add(target.getParent());
+            }
+        }
+        Map<Path, String> directoryErrors = createDirectories(directories);
+
+        List<Future<?>> futures = new ArrayList<>(files.size());
+        List<GeneratedCode.GeneratedFile> pending = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            GeneratedCode.GeneratedFile file = files.get(i);
+            Path target = targets.get(i);
+            String directoryError = target.getParent() != null ? directoryErrors.get(target.getParent()) : null;
+            if (directoryError != null) {
+                metrics.file(GeneratedCode.WriteStatus.FAILED);
+                fail(file, directoryError);
+                listener.fileCompleted(file);
+            } else if (files.size() == 1) {
+                writeFile(manifest, target, file);
+                listener.fileCompleted(file);
+            } else {
+                Future<?> future = fileWriterExecutor.submit(() -> writeFile(manifest, target, file));
+                futures.add(future);
+                pending.add(file);
+            }
+        }
+        await(futures, pending, listener);
+
+        if (durability == Durability.BATCHED) {
+            List<Path> written = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                if (files.get(i).getWriteStatus() == GeneratedCode.WriteStatus.WRITTEN) {
+                    written.add(targets.get(i));
+                }
+            }
+            forceAll(written);
+        }
+
+        int failed = 0;
+        int unchanged = 0;
+        for (GeneratedCode.GeneratedFile file : files) {
+            if (file.getWriteStatus() == GeneratedCode.WriteStatus.FAILED) {
+                failed++;
+            } else if (file.getWriteStatus() == GeneratedCode.WriteStatus.UNCHANGED) {
+                unchanged++;
+            }
+        }
+        logger.info("Wrote {} files to {} ({} directories, {} unchanged, {} failed)",
+                files.size() - failed - unchanged, workspacePath, directories.size(), unchanged, failed);
+        return failed;
+    }
+
+    /**
+     * Write one file of a workspace unless the manifest shows it already holds this content
+     * For the project generators, which create their own directories; call {@link #finish} when done
+     * @param workspacePath Root of the workspace (e.g. the generated project)
+     * @param filePath Full path of the file
+     * @param content File content
+     * @return WRITTEN or UNCHANGED
+     */
+    public GeneratedCode.WriteStatus writeFile(String workspacePath, String filePath, CharSequence content) {
+        Path workspace = workspaceOf(workspacePath);
+        Path target = Paths.get(filePath);
+        GeneratedCode.WriteStatus status;
+        try {
+            status = writeFile(runManifests.computeIfAbsent(workspace, this::acquireManifest), target, content);
+        } catch (RuntimeException e) {
+            metrics.file(GeneratedCode.WriteStatus.FAILED);
+            throw e;
+        }
+
+        if (durability == Durability.BATCHED && status == GeneratedCode.WriteStatus.WRITTEN) {
+            pendingForces.computeIfAbsent(workspace, key -> new ConcurrentLinkedQueue<>()).add(target);
+        }
+        return status;
+    }
+
+    /**
+     * Complete a run of {@link #writeFile(String, String, CharSequence)} calls on a workspace:
+     * force the files written to disk if durability is batched, then save the workspace's manifest
+     */
+    public void finish(String workspacePath) {
+        Path workspace = workspaceOf(workspacePath);
+        Queue<Path> pending = pendingForces.remove(workspace);
+        if (pending != null) {
+            forceAll(new ArrayList<>(pending));
+        }
+        WorkspaceManifest manifest = runManifests.remove(workspace);
+        if (manifest != null) {
+            manifest.save();
+            releaseManifest(workspace);
+        }
+    }
+
+    private static Path workspaceOf(String workspacePath) {
+        return Paths.get(workspacePath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Manifest of a workspace
+     * Concurrent writers to one workspace share a manifest; it is loaded afresh from disk once
+     * nobody holds it, so changes made outside this process are seen. Pair with {@link #releaseManifest}
+     */
+    private WorkspaceManifest acquireManifest(Path workspace) {
+        return manifests.compute(workspace, (key, open) -> {
+            OpenManifest held = open != null ? open : new OpenManifest(WorkspaceManifest.load(key));
+            held.holders++;
+            return held;
+        }).manifest;
+    }
+
+    private void releaseManifest(Path workspace) {
+        manifests.computeIfPresent(workspace, (key, open) -> --open.holders > 0 ? open : null);
+    }
+
+    /**
+     * Create the deepest directories only; creating them creates every ancestor as well
+     * @return Error message per directory that could not be created
+     */
+    private Map<Path, String> createDirectories(Set<Path> directories) {
+        Set<Path> ancestors = new HashSet<>();
+        for (Path directory : directories) {
+            // Stop at the first ancestor already recorded; its own ancestors are too
+            Path parent = directory.getParent();
+            while (parent != null && ancestors.add(parent)) {
+                parent = parent.getParent();
+            }
+        }
+
+        Map<Path, String> errors = new HashMap<>();
+        for (Path directory : directories) {
+            if (ancestors.contains(directory)) {
+                continue;
+            }
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                logger.error("Failed to create directory: {}", directory, e);
+                errors.put(directory, "Failed to create directory: " + directory);
+            }
+        }
+        return errors;
+    }
+
+    private void writeFile(WorkspaceManifest manifest, Path target, GeneratedCode.GeneratedFile file) {
+        try {
+            file.setWriteStatus(writeFile(manifest, target, file.getContentView()));
+        } catch (RuntimeException e) {
+            metrics.file(GeneratedCode.WriteStatus.FAILED);
+            fail(file, e.getCause() != null ? e.getMessage() + ": " + e.getCause().getMessage() : e.getMessage());
+        }
+    }
+
+    private GeneratedCode.WriteStatus writeFile(WorkspaceManifest manifest, Path target, CharSequence content) {
+        String key = manifest.keyOf(target);
+        String hash = key != null ? WorkspaceManifest.hash(content) : null;
+        if (key != null && manifest.isUnchanged(key, target, hash)) {
+            logger.debug("Unchanged file: {}", target);
+            metrics.file(GeneratedCode.WriteStatus.UNCHANGED);
+            return GeneratedCode.WriteStatus.UNCHANGED;
+        }
+
+        metrics.write(() -> fileUtils.writeFile(target.toString(), content));
+        if (durability == Durability.PER_FILE) {
+            metrics.sync(() -> {
+                forceFile(target);
+                forceDirectory(target.getParent());
+            });
+        }
+        if (key != null) {
+            manifest.record(key, target, hash);
+        }
+        logger.debug("Generated file: {} ({} chars)", target, content.length());
+        metrics.file(GeneratedCode.WriteStatus.WRITTEN);
+        return GeneratedCode.WriteStatus.WRITTEN;
+    }
+
+    /**
+     * Group commit: force a batch of written files, in parallel so the file system can share
+     * journal commits between them, then force each directory holding them once
+     * A file that cannot be forced stays written; the failure is only logged
+     */
+    private void forceAll(List<Path> files) {
+        if (files.isEmpty()) {
+            return;
+        }
+        metrics.sync(() -> {
+            List<Future<?>> futures = new ArrayList<>(files.size());
+            for (Path file : files) {
+                futures.add(fileWriterExecutor.submit(() -> forceFile(file)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    logger.error("Written file may not be on disk: {}", e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            Set<Path> directories = new LinkedHashSet<>();
+            for (Path file : files) {
+                if (file.getParent() != null) {
+                    directories.add(file.getParent());
+                }
+            }
+            directories.forEach(this::forceDirectory);
+        });
+        logger.debug("Forced {} files to disk", files.size());
+    }
+
+    private void forceFile(Path file) {
+        fileUtils.forceFile(file);
+        metrics.forcedFile();
+    }
+
+    private void forceDirectory(Path directory) {
+        if (directory != null && fileUtils.forceDirectory(directory)) {
+            metrics.forcedDirectory();
+        }
+    }
+
+    private static void fail(GeneratedCode.GeneratedFile file, String error) {
+        file.setWriteError(error);
+        file.setWriteStatus(GeneratedCode.WriteStatus.FAILED);
+    }
+
+    /**
+     * Wait for each file's write in turn and tell the listener about it on this thread
+     */
+    private void await(List<Future<?>> futures, List<GeneratedCode.GeneratedFile> files, GenerationListener listener) {
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (ExecutionException e) {
+                // writeFile records its own failures, so this is an Error; let it surface
+                throw new IllegalStateException("File write failed unexpectedly", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                for (int j = i; j < files.size(); j++) {
+                    GeneratedCode.GeneratedFile file = files.get(j);
+                    if (file.getWriteStatus() == null) {
+                        fail(file, "Interrupted before the file was written");
+                    }
+                }
+                return;
+            }
+            listener.fileCompleted(files.get(i));
+        }
+    }
+
+    private static class OpenManifest {
+        private final WorkspaceManifest manifest;
+        // Guarded by the map entry's compute calls
+        private int holders = 0;
+
+        OpenManifest(WorkspaceManifest manifest) {
+            this.manifest = manifest;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+// src/main/java/com/sonic/claudeforge/service/GenerationEventStream.java
+package com.sonic.claudeforge.service;
+
+import com.sonic.claudeforge.model.GeneratedCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the progress of one generation to a client as server-sent events
+ * Events wait in a small bounded buffer that this stream's own thread drains into the emitter;
+ * when a slow client lets the buffer fill, the generation waits for it (back-pressure)
+ * Events are published from the job's own thread, so only that job waits
+ * Once the client is gone, events are dropped so the generation runs on undisturbed
+ */
+public class GenerationEventStream implements GenerationListener, Runnable {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GenerationEventStream.class);
+    
+    private static final int BUFFERED_EVENTS = 256;
+    // Marks the end of the stream in the buffer
+    private static final SseEmitter.SseEventBuilder END = SseEmitter.event();
+    
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> events = new ArrayBlockingQueue<>(BUFFERED_EVENTS);
+    private final AtomicInteger completedFiles = new AtomicInteger();
+    private volatile int totalFiles;
+    private volatile boolean closed;
+    
+    public GenerationEventStream(SseEmitter emitter) {
+        this.emitter = emitter;
+        emitter.onTimeout(() -> closed = true);
+        emitter.onError(e -> closed = true);
+        emitter.onCompletion(() -> closed = true);
+    }
+    
+    @Override
+    public void queued(String jobId) {
+        publish("job", Map.of("jobId", jobId, "statusUrl", "/api/jobs/" + jobId));
+    }
+    
+    @Override
+    public void stage(String stage) {
+        publish("stage", Map.of("stage", stage));
+    }
+    
+    @Override
+    public void parsed(int files) {
+        totalFiles = files;
+        publish("parsed", Map.of("totalFiles", files));
+    }
+    
+    @Override
+    public void fileParsed(GeneratedCode.GeneratedFile file) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("filePath", file.getFilePath());
+        data.put("fileType", file.getFileType());
+        publish("file-parsed", data);
+    }
+    
+    @Override
+    public void fileInvalid(String filePath, String error) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("filePath", filePath);
+        data.put("error", error);
+        publish("file-invalid", data);
+    }
+    
+    @Override
+    public void fileCompleted(GeneratedCode.GeneratedFile file) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("filePath", file.getFilePath());
+        data.put("writeStatus", file.getWriteStatus());
+        data.put("writeError", file.getWriteError());
+        data.put("completedFiles", completedFiles.incrementAndGet());
+        data.put("totalFiles", totalFiles);
+        publish("file-written", data);
+    }
+    
+    @Override
+    public void finished(boolean success, String message) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("success", success);
+        data.put("message", message);
+        data.put("completedFiles", completedFiles.get());
+        data.put("totalFiles", totalFiles);
+        publish("done", data);
+        enqueue(END);
+    }
+    
+    /**
+     * End a stream whose sending thread never started
+     */
+    public void reject(String message) {
+        try {
+            emitter.send(event("done", Map.of("success", false, "message", message)));
+            emitter.complete();
+        } catch (IOException e) {
+            logger.debug("Client left before the stream was rejected: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Send buffered events until the generation has finished or the client is gone
+     */
+    @Override
+    public void run() {
+        try {
+            while (!closed) {
+                SseEmitter.SseEventBuilder event = events.poll(1, TimeUnit.SECONDS);
+                if (event == END) {
+                    emitter.complete();
+                    return;
+                } else if (event != null) {
+                    emitter.send(event);
+                }
+            }
+        } catch (IOException e) {
+            // The container completes the emitter itself after a failed send
+            logger.debug("Progress stream client went away: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            emitter.complete();
+        } finally {
+            closed = true;
+            events.clear();
+        }
+    }
+    
+    private void publish(String name, Object data) {
+        enqueue(event(name, data));
+    }
+    
+    /**
+     * Buffer an event, waiting while the buffer is full unless the client is gone
+     */
+    private void enqueue(SseEmitter.SseEventBuilder event) {
+        try {
+            while (!closed) {
+                if (events.offer(event, 1, TimeUnit.SECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static SseEmitter.SseEventBuilder event(String name, Object data) {
+        return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+    }
+}
\ No newline at end of file
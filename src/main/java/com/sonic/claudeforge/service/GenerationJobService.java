@@ -0,0 +1,175 @@
+// src/main/java/com/sonic/claudeforge/service/GenerationJobService.java
+package com.sonic.claudeforge.service;
+
+import com.sonic.claudeforge.config.ClaudeForgeProperties;
+import com.sonic.claudeforge.exception.JobQueueFullException;
+import com.sonic.claudeforge.model.GeneratedCode;
+import com.sonic.claudeforge.model.GenerationJob;
+import com.sonic.claudeforge.model.ProjectConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs generations as background jobs on the bounded job pool
+ * Submitting returns at once with a job to poll; finished jobs are kept for the configured retention
+ */
+@Service
+public class GenerationJobService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GenerationJobService.class);
+    
+    private final CodeGeneratorService codeGeneratorService;
+    private final ExecutorService jobExecutor;
+    private final ExecutorService streamExecutor;
+    private final int queueCapacity;
+    private final Duration retention;
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+    
+    public GenerationJobService(CodeGeneratorService codeGeneratorService,
+                                @Qualifier("jobExecutor") ExecutorService jobExecutor,
+                                @Qualifier("streamExecutor") ExecutorService streamExecutor,
+                                ClaudeForgeProperties properties) {
+        this.codeGeneratorService = codeGeneratorService;
+        this.jobExecutor = jobExecutor;
+        this.streamExecutor = streamExecutor;
+        this.queueCapacity = properties.getJobs().getQueueCapacity();
+        this.retention = Duration.ofMinutes(properties.getJobs().getRetentionMinutes());
+    }
+    
+    /**
+     * Queue parsing a Claude response and writing its files
+     * @throws JobQueueFullException if the job queue is full
+     */
+    public GenerationJob submitParseAndGenerate(String claudeResponse, String workspacePath) {
+        return submitParseAndGenerate(claudeResponse, workspacePath, GenerationListener.NONE);
+    }
+    
+    /**
+     * Queue parsing a Claude response and writing its files, also reporting progress to an observer
+     * @throws JobQueueFullException if the job queue is full
+     */
+    public GenerationJob submitParseAndGenerate(String claudeResponse, String workspacePath, GenerationListener observer) {
+        GenerationJob job = new GenerationJob("parse-and-generate", workspacePath);
+        return submit(job, observer, () -> {
+            GeneratedCode generatedCode = codeGeneratorService.parseAndGenerateCode(claudeResponse, workspacePath,
+                    listenerFor(job, observer));
+            job.succeeded(workspacePath, "Generated " + generatedCode.getFiles().size() + " files");
+        });
+    }
+    
+    /**
+     * Queue parsing a Claude response and writing its files, streaming progress as server-sent events
+     * The stream ends with a "done" event, also when the job cannot be queued
+     */
+    public void streamParseAndGenerate(String claudeResponse, String workspacePath, SseEmitter emitter) {
+        GenerationEventStream stream = new GenerationEventStream(emitter);
+        try {
+            streamExecutor.execute(stream);
+        } catch (RejectedExecutionException e) {
+            stream.reject("Too many progress streams open; try again later");
+            return;
+        }
+        
+        try {
+            submitParseAndGenerate(claudeResponse, workspacePath, stream);
+        } catch (JobQueueFullException e) {
+            stream.finished(false, e.getMessage());
+        }
+    }
+    
+    /**
+     * Queue generating a new project
+     * @throws JobQueueFullException if the job queue is full
+     */
+    public GenerationJob submitCreateProject(ProjectConfig config) {
+        GenerationJob job = new GenerationJob("create-project", config.getWorkspacePath());
+        return submit(job, GenerationListener.NONE, () -> {
+            job.stage("generating");
+            String projectPath = codeGeneratorService.generateProject(config);
+            job.succeeded(projectPath, "Project created successfully");
+        });
+    }
+    
+    /**
+     * @return The job, or null if there is none with this ID or it has expired
+     */
+    public GenerationJob getJob(String id) {
+        return jobs.get(id);
+    }
+    
+    private GenerationJob submit(GenerationJob job, GenerationListener observer, Runnable work) {
+        removeExpiredJobs();
+        jobs.put(job.getId(), job);
+        observer.queued(job.getId());
+        try {
+            jobExecutor.execute(() -> run(job, observer, work));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new JobQueueFullException(queueCapacity);
+        }
+        logger.info("Queued {} job {} for {}", job.getType(), job.getId(), job.getWorkspacePath());
+        return job;
+    }
+    
+    private void run(GenerationJob job, GenerationListener observer, Runnable work) {
+        job.started();
+        try {
+            work.run();
+            logger.info("Job {} succeeded: {} {}", job.getId(), job.getMessage(), job.getTimings());
+        } catch (Exception e) {
+            logger.error("Job {} failed: {}", job.getId(), e.getMessage(), e);
+            job.failed(e.getMessage());
+        }
+        observer.finished(job.getStatus() == GenerationJob.Status.SUCCEEDED, job.getMessage());
+    }
+    
+    /**
+     * Listener that records progress on the job and passes every event on to the observer
+     */
+    private static GenerationListener listenerFor(GenerationJob job, GenerationListener observer) {
+        return new GenerationListener() {
+            @Override
+            public void stage(String stage) {
+                job.stage(stage);
+                observer.stage(stage);
+            }
+            
+            @Override
+            public void parsed(int files) {
+                job.parsed(files);
+                observer.parsed(files);
+            }
+            
+            @Override
+            public void fileParsed(GeneratedCode.GeneratedFile file) {
+                observer.fileParsed(file);
+            }
+            
+            @Override
+            public void fileInvalid(String filePath, String error) {
+                observer.fileInvalid(filePath, error);
+            }
+            
+            @Override
+            public void fileCompleted(GeneratedCode.GeneratedFile file) {
+                job.fileCompleted(file);
+                observer.fileCompleted(file);
+            }
+        };
+    }
+    
+    private void removeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+// src/main/java/com/sonic/claudeforge/service/GenerationListener.java
+package com.sonic.claudeforge.service;
+
+import com.sonic.claudeforge.model.GeneratedCode;
+
+/**
+ * Receives the progress of one generation as it happens
+ * File events come from the file writer threads, so implementations must be thread-safe
+ */
+public interface GenerationListener {
+    
+    GenerationListener NONE = new GenerationListener() { };
+    
+    /**
+     * The generation was queued as a background job
+     */
+    default void queued(String jobId) {
+    }
+    
+    /**
+     * A new stage of the generation began (e.g., "parsing", "writing")
+     */
+    default void stage(String stage) {
+    }
+    
+    /**
+     * Parsing finished and this many files are about to be written
+     */
+    default void parsed(int files) {
+    }
+    
+    /**
+     * A file was parsed and passed validation; it is about to be written
+     */
+    default void fileParsed(GeneratedCode.GeneratedFile file) {
+    }
+    
+    /**
+     * A file was parsed but failed validation, so it will not be written
+     */
+    default void fileInvalid(String filePath, String error) {
+    }
+    
+    /**
+     * A file was written, found unchanged, or failed; its write status says which
+     * Called on the thread running the generation, never on a shared writer pool thread
+     */
+    default void fileCompleted(GeneratedCode.GeneratedFile file) {
+    }
+    
+    /**
+     * The generation ended; nothing is reported after this
+     * Only background jobs report it
+     */
+    default void finished(boolean success, String message) {
+    }
+}
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.sonic.claudeforge.service;
 
 import com.sonic.claudeforge.model.ProjectStructure;
 import com.sonic.claudeforge.util.FileUtils;
+import com.sonic.claudeforge.util.JavaStructureScanner;
+import com.sonic.claudeforge.util.JavaStructureScanner.JavaStructure;
 import com.sonic.claudeforge.util.MermaidGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,6 +12,14 @@ import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.regex.Matcher;
@@ -23,6 +33,8 @@ import java.util.regex.Pattern;
 public class ProjectAnalyzerService {
     
     private static final Logger logger = LoggerFactory.getLogger(ProjectAnalyzerService.class);
+    private static final String DEFAULT_PACKAGE = "com.sonic.claudeforge";
+    private static final Pattern MAPPING_PATTERN = Pattern.compile("@(Get|Post|Put|Delete|Request)Mapping\\(.*?value\\s*=\\s*\"([^\"]+)\".*?\\)\\s*\\w+\\s+([\\w]+)\\s*\\(");
     
     private final FileUtils fileUtils;
     private final MermaidGenerator mermaidGenerator;
@@ -43,103 +55,78 @@ public class ProjectAnalyzerService {
         String projectName = extractProjectName(projectPath);
         structure.setProjectName(projectName);
         
-        // Find base package
-        String basePackage = findBasePackage(projectPath);
-        structure.setBasePackage(basePackage);
+        // Walk the project once: tree, Java files, endpoints and metadata
+        ProjectScan scan = scanProject(projectPath);
         
-        // Generate project tree structure
-        String projectTree = generateProjectTree(projectPath);
-        structure.setProjectTree(projectTree);
-        
-        // Scan Java files
-        List<ProjectStructure.FileInfo> javaFiles = scanJavaFiles(projectPath);
-        structure.setJavaFiles(javaFiles);
-        
-        // Extract API endpoints
-        List<ProjectStructure.ApiEndpoint> apiEndpoints = extractApiEndpoints(javaFiles, projectPath);
-        structure.setApiEndpoints(apiEndpoints);
-        
-        // Generate project metadata
-        Map<String, Object> metadata = generateProjectMetadata(projectPath);
-        structure.setProjectMetadata(metadata);
+        structure.setBasePackage(scan.basePackage != null ? scan.basePackage : DEFAULT_PACKAGE);
+        structure.setProjectTree(generateProjectTree(projectName, scan.root));
+        structure.setJavaFiles(scan.javaFiles);
+        structure.setApiEndpoints(scan.apiEndpoints);
+        structure.setProjectMetadata(generateProjectMetadata(scan));
         
         // Generate Mermaid diagram
         String mermaidDiagram = mermaidGenerator.generateProjectDiagram(structure);
         structure.setMermaidDiagram(mermaidDiagram);
         
-        logger.info("Project analysis completed successfully");
+        logger.info("Project analysis completed successfully ({} Java files)", scan.javaFiles.size());
         return structure;
     }
     
-    private String generateProjectTree(String projectPath) {
+    /**
+     * Walk the project tree once, reading each Java file a single time
+     * Symbolic links are followed as before; entries that cannot be read are skipped
+     */
+    private ProjectScan scanProject(String projectPath) {
+        ProjectScan scan = new ProjectScan(Paths.get(projectPath).toAbsolutePath());
+        try {
+            Files.walkFileTree(scan.projectRoot, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, scan);
+        } catch (IOException e) {
+            logger.warn("Project scan of {} stopped early: {}", projectPath, e.getMessage());
+        }
+        return scan;
+    }
+    
+    private String generateProjectTree(String projectName, TreeNode root) {
         StringBuilder tree = new StringBuilder();
-        File projectRoot = new File(projectPath);
-        String projectName = projectRoot.getName();
-        
         tree.append(projectName).append("/\n");
-        generateTreeRecursive(projectRoot, tree, "", true);
+        generateTreeRecursive(root, tree, "");
         
         return tree.toString();
     }
     
-    private void generateTreeRecursive(File dir, StringBuilder tree, String prefix, boolean isRoot) {
-        File[] files = dir.listFiles();
-        if (files == null) return;
-        
-        // Filter out common ignored directories
-        List<File> filteredFiles = new ArrayList<>();
-        for (File file : files) {
-            String name = file.getName();
-            if (!name.equals("target") && !name.equals(".git") && !name.equals(".idea") 
-                && !name.equals("node_modules") && !name.startsWith(".")) {
-                filteredFiles.add(file);
-            }
-        }
+    private void generateTreeRecursive(TreeNode dir, StringBuilder tree, String prefix) {
+        List<TreeNode> children = dir.children;
         
         // Sort: directories first, then files
-        filteredFiles.sort((f1, f2) -> {
-            if (f1.isDirectory() && !f2.isDirectory()) return -1;
-            if (!f1.isDirectory() && f2.isDirectory()) return 1;
-            return f1.getName().compareToIgnoreCase(f2.getName());
+        children.sort((f1, f2) -> {
+            if (f1.directory && !f2.directory) return -1;
+            if (!f1.directory && f2.directory) return 1;
+            return f1.name.compareToIgnoreCase(f2.name);
         });
         
-        for (int i = 0; i < filteredFiles.size(); i++) {
-            File file = filteredFiles.get(i);
-            boolean isLast = (i == filteredFiles.size() - 1);
+        for (int i = 0; i < children.size(); i++) {
+            TreeNode node = children.get(i);
+            boolean isLast = (i == children.size() - 1);
             
-            tree.append(prefix).append(isLast ? "└── " : "├── ").append(file.getName());
-            if (file.isDirectory()) {
+            tree.append(prefix).append(isLast ? "└── " : "├── ").append(node.name);
+            if (node.directory) {
                 tree.append("/");
             }
             tree.append("\n");
             
-            if (file.isDirectory()) {
+            if (node.directory) {
                 String newPrefix = prefix + (isLast ? "    " : "│   ");
-                generateTreeRecursive(file, tree, newPrefix, false);
+                generateTreeRecursive(node, tree, newPrefix);
             }
         }
     }
     
-    private String getRelativePath(String filePath, String projectPath) {
-        try {
-            File projectFile = new File(projectPath);
-            File targetFile = new File(filePath);
-            
-            String projectAbsolute = projectFile.getCanonicalPath();
-            String targetAbsolute = targetFile.getCanonicalPath();
-            
-            if (targetAbsolute.startsWith(projectAbsolute)) {
-                String relativePath = targetAbsolute.substring(projectAbsolute.length());
-                if (relativePath.startsWith(File.separator)) {
-                    relativePath = relativePath.substring(1);
-                }
-                return relativePath.replace(File.separator, "/");
-            }
-            
-            return filePath;
-        } catch (Exception e) {
-            return filePath;
-        }
+    /**
+     * Common ignored directories and hidden entries are left out of the tree
+     */
+    private static boolean isIgnoredInTree(String name) {
+        return name.equals("target") || name.equals(".git") || name.equals(".idea")
+                || name.equals("node_modules") || name.startsWith(".");
     }
     
     private String extractProjectName(String projectPath) {
@@ -147,86 +134,35 @@ public class ProjectAnalyzerService {
         return projectDir.getName();
     }
     
-    private String findBasePackage(String projectPath) {
-        List<File> javaFiles = fileUtils.findJavaFiles(projectPath);
-        
-        for (File file : javaFiles) {
-            String content = fileUtils.readFileContent(file);
-            if (content.contains("@SpringBootApplication")) {
-                return extractPackageFromFile(content);
-            }
-        }
-        
-        return "com.sonic.claudeforge";
-    }
-    
-    private String extractPackageFromFile(String content) {
-        Pattern pattern = Pattern.compile("package\\s+([\\w\\.]+);");
-        Matcher matcher = pattern.matcher(content);
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-        return "com.sonic.claudeforge";
+    private String packageOf(JavaStructure structure) {
+        return structure.getPackageName() != null ? structure.getPackageName() : DEFAULT_PACKAGE;
     }
     
-    private List<ProjectStructure.FileInfo> scanJavaFiles(String projectPath) {
-        List<ProjectStructure.FileInfo> fileInfos = new ArrayList<>();
-        List<File> javaFiles = fileUtils.findJavaFiles(projectPath);
-        
-        for (File file : javaFiles) {
-            ProjectStructure.FileInfo fileInfo = new ProjectStructure.FileInfo();
-            fileInfo.setFileName(file.getName());
-            fileInfo.setFilePath(file.getAbsolutePath());
-            fileInfo.setRelativePath(getRelativePath(file.getAbsolutePath(), projectPath));
-            
-            String content = fileUtils.readFileContent(file);
-            fileInfo.setPackageName(extractPackageFromFile(content));
-            fileInfo.setClassName(extractClassName(file.getName()));
-            fileInfo.setFileType(determineFileType(content));
-            
-            fileInfos.add(fileInfo);
-        }
-        
-        return fileInfos;
+    private ProjectStructure.FileInfo toFileInfo(Path file, String relativePath, JavaStructure structure) {
+        ProjectStructure.FileInfo fileInfo = new ProjectStructure.FileInfo();
+        String fileName = file.getFileName().toString();
+        fileInfo.setFileName(fileName);
+        fileInfo.setFilePath(file.toString());
+        fileInfo.setRelativePath(relativePath);
+        fileInfo.setPackageName(packageOf(structure));
+        fileInfo.setClassName(extractClassName(fileName));
+        fileInfo.setFileType(determineFileType(structure));
+        return fileInfo;
     }
     
     private String extractClassName(String fileName) {
         return fileName.replace(".java", "");
     }
     
-    private String determineFileType(String content) {
-        if (content.contains("@RestController") || content.contains("@Controller")) {
-            return "Controller";
-        } else if (content.contains("@Service")) {
-            return "Service";
-        } else if (content.contains("@Repository")) {
-            return "Repository";
-        } else if (content.contains("@Entity")) {
-            return "Entity";
-        } else if (content.contains("@Configuration")) {
-            return "Configuration";
-        }
-        return "Class";
-    }
-    
-    private List<ProjectStructure.ApiEndpoint> extractApiEndpoints(List<ProjectStructure.FileInfo> javaFiles, String projectPath) {
-        List<ProjectStructure.ApiEndpoint> endpoints = new ArrayList<>();
-        
-        for (ProjectStructure.FileInfo fileInfo : javaFiles) {
-            if ("Controller".equals(fileInfo.getFileType())) {
-                String content = fileUtils.readFileContent(new File(fileInfo.getFilePath()));
-                endpoints.addAll(parseApiEndpoints(content, fileInfo.getClassName()));
-            }
-        }
-        
-        return endpoints;
+    private String determineFileType(JavaStructure structure) {
+        String stereotype = structure.getStereotype();
+        return stereotype != null ? stereotype : "Class";
     }
     
     private List<ProjectStructure.ApiEndpoint> parseApiEndpoints(String content, String controllerClass) {
         List<ProjectStructure.ApiEndpoint> endpoints = new ArrayList<>();
         
-        Pattern mappingPattern = Pattern.compile("@(Get|Post|Put|Delete|Request)Mapping\\(.*?value\\s*=\\s*\"([^\"]+)\".*?\\)\\s*\\w+\\s+([\\w]+)\\s*\\(");
-        Matcher matcher = mappingPattern.matcher(content);
+        Matcher matcher = MAPPING_PATTERN.matcher(content);
         
         while (matcher.find()) {
             ProjectStructure.ApiEndpoint endpoint = new ProjectStructure.ApiEndpoint();
@@ -242,16 +178,15 @@ public class ProjectAnalyzerService {
         return endpoints;
     }
     
-    private Map<String, Object> generateProjectMetadata(String projectPath) {
+    private Map<String, Object> generateProjectMetadata(ProjectScan scan) {
         Map<String, Object> metadata = new HashMap<>();
         
-        File pomFile = new File(projectPath, "pom.xml");
-        if (pomFile.exists()) {
+        if (scan.pomContent != null) {
             metadata.put("buildTool", "Maven");
             metadata.put("hasPom", true);
             
             // Try to detect database type from pom.xml
-            String pomContent = fileUtils.readFileContent(pomFile);
+            String pomContent = scan.pomContent;
             if (pomContent.contains("sqlite-jdbc")) {
                 metadata.put("databaseType", "SQLITE");
             } else if (pomContent.contains("postgresql")) {
@@ -265,14 +200,138 @@ public class ProjectAnalyzerService {
             }
         }
         
-        File propsFile = new File(projectPath, "src/main/resources/application.properties");
-        if (propsFile.exists()) {
+        if (scan.hasApplicationProperties) {
             metadata.put("hasApplicationProperties", true);
         }
         
-        List<File> javaFiles = fileUtils.findJavaFiles(projectPath);
-        metadata.put("totalJavaFiles", javaFiles.size());
+        metadata.put("totalJavaFiles", scan.javaFiles.size());
         
         return metadata;
     }
+    
+    /**
+     * Entry of the project tree; a directory's children are sorted when the tree is rendered
+     */
+    private static class TreeNode {
+        // Stands in for the entries of an ignored directory, which are not added to the tree
+        static final TreeNode IGNORED = new TreeNode("", true);
+        
+        private final String name;
+        private final boolean directory;
+        private final List<TreeNode> children = new ArrayList<>();
+        
+        TreeNode(String name, boolean directory) {
+            this.name = name;
+            this.directory = directory;
+        }
+    }
+    
+    /**
+     * Everything analyzeProject needs from the file system, gathered in one walk
+     * Ignored directories are still walked for Java files, as before; they are only left out of the tree
+     */
+    private class ProjectScan extends SimpleFileVisitor<Path> {
+        private final Path projectRoot;
+        private final TreeNode root = new TreeNode("", true);
+        // Tree node of each directory being walked
+        private final Deque<TreeNode> directories = new ArrayDeque<>();
+        private final List<ProjectStructure.FileInfo> javaFiles = new ArrayList<>();
+        private final List<ProjectStructure.ApiEndpoint> apiEndpoints = new ArrayList<>();
+        private String basePackage;
+        private String pomContent;
+        private boolean hasApplicationProperties;
+        
+        ProjectScan(Path projectRoot) {
+            this.projectRoot = projectRoot;
+        }
+        
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+            if (directories.isEmpty()) {
+                directories.push(root);
+            } else {
+                directories.push(addToTree(dir, true));
+            }
+            return FileVisitResult.CONTINUE;
+        }
+        
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            if (directories.isEmpty()) {
+                // The project path is not a directory
+                return FileVisitResult.CONTINUE;
+            }
+            addToTree(file, false);
+            
+            String fileName = file.getFileName().toString();
+            if (fileName.endsWith(".java") && attributes.isRegularFile()) {
+                scanJavaFile(file);
+            } else if (fileName.equals("pom.xml") || fileName.equals("application.properties")) {
+                String relativePath = relativePathOf(file);
+                if (relativePath.equals("pom.xml")) {
+                    pomContent = readFile(file);
+                } else if (relativePath.equals("src/main/resources/application.properties")) {
+                    hasApplicationProperties = true;
+                }
+            }
+            return FileVisitResult.CONTINUE;
+        }
+        
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException e) {
+            // Unreadable entries and symbolic link cycles are skipped
+            logger.debug("Skipping {}: {}", file, e.getMessage());
+            return FileVisitResult.CONTINUE;
+        }
+        
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+            directories.pop();
+            return FileVisitResult.CONTINUE;
+        }
+        
+        private TreeNode addToTree(Path path, boolean directory) {
+            TreeNode parent = directories.isEmpty() ? TreeNode.IGNORED : directories.peek();
+            String name = path.getFileName().toString();
+            if (parent == TreeNode.IGNORED || isIgnoredInTree(name)) {
+                return TreeNode.IGNORED;
+            }
+            TreeNode node = new TreeNode(name, directory);
+            parent.children.add(node);
+            return node;
+        }
+        
+        private void scanJavaFile(Path file) {
+            String content = readFile(file);
+            if (content == null) {
+                return;
+            }
+            JavaStructure structure = JavaStructureScanner.scan(content);
+            if (basePackage == null && structure.hasAnnotation("SpringBootApplication")) {
+                basePackage = packageOf(structure);
+            }
+            
+            ProjectStructure.FileInfo fileInfo = toFileInfo(file, relativePathOf(file), structure);
+            javaFiles.add(fileInfo);
+            if ("Controller".equals(fileInfo.getFileType())) {
+                apiEndpoints.addAll(parseApiEndpoints(content, fileInfo.getClassName()));
+            }
+        }
+        
+        /**
+         * @return The file's content, or null if it could not be read; the file is then left out of the analysis
+         */
+        private String readFile(Path file) {
+            try {
+                return fileUtils.readFileContent(file.toFile());
+            } catch (UncheckedIOException e) {
+                logger.warn("Skipping unreadable file {}: {}", file, e.getCause().getMessage());
+                return null;
+            }
+        }
+        
+        private String relativePathOf(Path file) {
+            return projectRoot.relativize(file).toString().replace(File.separatorChar, '/');
+        }
+    }
 }
\ No newline at end of file
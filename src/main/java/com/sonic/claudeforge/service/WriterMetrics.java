@@ -0,0 +1,89 @@
+// src/main/java/com/sonic/claudeforge/service/WriterMetrics.java
+package com.sonic.claudeforge.service;
+
+import com.sonic.claudeforge.config.ClaudeForgeProperties;
+import com.sonic.claudeforge.model.GeneratedCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Micrometer meters for the file writer, tagged by durability mode
+ * Write and sync times and force counts show what each mode costs, to pick one per deployment
+ */
+public class WriterMetrics {
+    
+    private final Timer write;
+    private final Timer sync;
+    private final Counter fileForces;
+    private final Counter directoryForces;
+    private final Map<GeneratedCode.WriteStatus, Counter> files = new EnumMap<>(GeneratedCode.WriteStatus.class);
+    
+    public WriterMetrics(MeterRegistry registry, ClaudeForgeProperties.Writer.Durability durability) {
+        String mode = tagValue(durability);
+        this.write = Timer.builder("claudeforge.writer.write")
+                .description("Time spent writing one file")
+                .tag("durability", mode)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.sync = Timer.builder("claudeforge.writer.sync")
+                .description("Time spent forcing written files to disk, per file or per batch")
+                .tag("durability", mode)
+                .publishPercentileHistogram()
+                .register(registry);
+        this.fileForces = forces(registry, mode, "file");
+        this.directoryForces = forces(registry, mode, "directory");
+        for (GeneratedCode.WriteStatus status : GeneratedCode.WriteStatus.values()) {
+            files.put(status, Counter.builder("claudeforge.writer.files")
+                    .description("Files handled by the writer")
+                    .tag("durability", mode)
+                    .tag("status", tagValue(status))
+                    .register(registry));
+        }
+    }
+    
+    /**
+     * Run and time one file write
+     */
+    public void write(Runnable work) {
+        write.record(work);
+    }
+    
+    /**
+     * Run and time forcing files to disk
+     */
+    public void sync(Runnable work) {
+        sync.record(work);
+    }
+    
+    public void forcedFile() {
+        fileForces.increment();
+    }
+    
+    public void forcedDirectory() {
+        directoryForces.increment();
+    }
+    
+    /**
+     * Count a file by how its write ended
+     */
+    public void file(GeneratedCode.WriteStatus status) {
+        files.get(status).increment();
+    }
+    
+    private static Counter forces(MeterRegistry registry, String mode, String target) {
+        return Counter.builder("claudeforge.writer.forces")
+                .description("Files and directories forced to disk")
+                .tag("durability", mode)
+                .tag("target", target)
+                .register(registry);
+    }
+    
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
\ No newline at end of file
@@ -4,7 +4,6 @@ package com.sonic.claudeforge.service.codegenerator;
 import com.sonic.claudeforge.model.DatabaseType;
 import com.sonic.claudeforge.model.ProjectConfig;
 import com.sonic.claudeforge.model.ProjectStructureStyle;
-import com.sonic.claudeforge.util.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -22,48 +21,56 @@ public class JavaCodeGeneratorService {
     
     private static final Logger logger = LoggerFactory.getLogger(JavaCodeGeneratorService.class);
     
-    private final FileUtils fileUtils;
+    private final WorkspaceProjectOutput workspaceOutput;
     
-    public JavaCodeGeneratorService(FileUtils fileUtils) {
-        this.fileUtils = fileUtils;
+    public JavaCodeGeneratorService(WorkspaceProjectOutput workspaceOutput) {
+        this.workspaceOutput = workspaceOutput;
     }
     
     public String generateJavaProject(ProjectConfig config) {
+        return generateJavaProject(config, workspaceOutput);
+    }
+    
+    /**
+     * Generate the project into the given output instead of the workspace on disk
+     */
+    public String generateJavaProject(ProjectConfig config, ProjectOutput output) {
         logger.info("Generating Java Spring Boot project: {}", config.getProjectName());
         
         String projectPath = config.getBackendProjectPath();
         
-        createJavaProjectStructure(projectPath, config);
-        generatePomXml(projectPath, config);
-        generateApplicationProperties(projectPath, config);
-        generateMainApplicationClass(projectPath, config);
+        createJavaProjectStructure(projectPath, config, output);
+        generatePomXml(projectPath, config, output);
+        generateApplicationProperties(projectPath, config, output);
+        generateMainApplicationClass(projectPath, config, output);
         
         // Generate infrastructure components
-        generateBaseResponse(projectPath, config);
+        generateBaseResponse(projectPath, config, output);
         
         // Generate database-related components only if database is enabled
         if (!DatabaseType.NONE.equals(config.getDatabaseType())) {
-            generateBaseEntity(projectPath, config);
+            generateBaseEntity(projectPath, config, output);
         }
         
-        generateGlobalExceptionHandler(projectPath, config);
-        generateRequestLoggingFilter(projectPath, config);
+        generateGlobalExceptionHandler(projectPath, config, output);
+        generateRequestLoggingFilter(projectPath, config, output);
         
         // Create data folder for SQLite
         if (DatabaseType.SQLITE.equals(config.getDatabaseType())) {
-            fileUtils.createDirectory(projectPath + File.separator + "data");
+            output.createDirectory(projectPath + File.separator + "data");
         }
         
         // Generate static web resources for JAVA_REST_API_WITH_STATIC
         if (config.getProjectStructureStyle() == ProjectStructureStyle.JAVA_REST_API_WITH_STATIC) {
-            generateStaticWebResources(projectPath, config);
+            generateStaticWebResources(projectPath, config, output);
         }
         
+        output.finish(projectPath);
         logger.info("Java project generated successfully at: {}", projectPath);
         return projectPath;
     }
     
-    private void createJavaProjectStructure(String projectPath, ProjectConfig config) {
+    private void createJavaProjectStructure(String projectPath, ProjectConfig config, ProjectOutput output) {
         String fullPackage = config.getFullPackage();
         String fullPackagePath = fullPackage.replace(".", File.separator);
         boolean hasDatabase = !DatabaseType.NONE.equals(config.getDatabaseType());
@@ -95,11 +102,11 @@ public class JavaCodeGeneratorService {
         }
         
         for (String dir : directories) {
-            fileUtils.createDirectory(projectPath + File.separator + dir);
+            output.createDirectory(projectPath + File.separator + dir);
         }
     }
     
-    private void generatePomXml(String projectPath, ProjectConfig config) {
+    private void generatePomXml(String projectPath, ProjectConfig config, ProjectOutput output) {
         String fullPackage = config.getFullPackage();
         boolean hasDatabase = !DatabaseType.NONE.equals(config.getDatabaseType());
         DatabaseType dbType = config.getDatabaseType();
@@ -210,11 +217,11 @@ public class JavaCodeGeneratorService {
             "    </build>\n" +
             "</project>\n";
         
-        fileUtils.writeFile(projectPath + File.separator + "pom.xml", pomContent);
+        output.writeFile(projectPath, projectPath + File.separator + "pom.xml", pomContent);
     }
-
     
-    private void generateApplicationProperties(String projectPath, ProjectConfig config) {
+    
+    private void generateApplicationProperties(String projectPath, ProjectConfig config, ProjectOutput output) {
         String fullPackage = config.getFullPackage();
         DatabaseType dbType = config.getDatabaseType();
         String projectName = config.getProjectName();
@@ -277,10 +284,10 @@ public class JavaCodeGeneratorService {
             logging.level.org.springframework.web=INFO
             """, fullPackage));
         
-        fileUtils.writeFile(projectPath + File.separator + "src/main/resources/application.properties", propsContent.toString());
+        output.writeFile(projectPath, projectPath + File.separator + "src/main/resources/application.properties", propsContent.toString());
     }
     
-    private void generateMainApplicationClass(String projectPath, ProjectConfig config) {
+    private void generateMainApplicationClass(String projectPath, ProjectConfig config, ProjectOutput output) {
         String fullPackage = config.getFullPackage();
         String fullPackagePath = fullPackage.replace(".", File.separator);
         String className = toPascalCase(config.getProjectName()) + "Application";
@@ -306,10 +313,10 @@ public class JavaCodeGeneratorService {
                 config.getProjectName(), className, className);
         
         String filePath = projectPath + File.separator + "src/main/java/" + fullPackagePath + File.separator + className + ".java";
-        fileUtils.writeFile(filePath, classContent);
+        output.writeFile(projectPath, filePath, classContent);
     }
     
-    private void generateBaseResponse(String projectPath, ProjectConfig config) {
+    private void generateBaseResponse(String projectPath, ProjectConfig config, ProjectOutput output) {
         String fullPackage = config.getFullPackage();
         String fullPackagePath = fullPackage.replace(".", File.separator);
         
@@ -360,10 +367,10 @@ public class JavaCodeGeneratorService {
             """, fullPackagePath, fullPackage);
         
         String filePath = projectPath + File.separator + "src/main/java/" + fullPackagePath + File.separator + "model/response/BaseResponse.java";
-        fileUtils.writeFile(filePath, classContent);
+        output.writeFile(projectPath, filePath, classContent);
     }
     
-    private void generateBaseEntity(String projectPath, ProjectConfig config) {
+    private void generateBaseEntity(String projectPath, ProjectConfig config, ProjectOutput output) {
         String fullPackage = config.getFullPackage();
         String fullPackagePath = fullPackage.replace(".", File.separator);
         
@@ -424,10 +431,10 @@ public class JavaCodeGeneratorService {
             """, fullPackagePath, fullPackage);
         
         String filePath = projectPath + File.separator + "src/main/java/" + fullPackagePath + File.separator + "model/entity/BaseEntity.java";
-        fileUtils.writeFile(filePath, classContent);
+        output.writeFile(projectPath, filePath, classContent);
     }
     
-    private void generateGlobalExceptionHandler(String projectPath, ProjectConfig config) {
+    private void generateGlobalExceptionHandler(String projectPath, ProjectConfig config, ProjectOutput output) {
         String fullPackage = config.getFullPackage();
         String fullPackagePath = fullPackage.replace(".", File.separator);
         
@@ -490,10 +497,10 @@ public class JavaCodeGeneratorService {
             """, fullPackagePath, fullPackage, fullPackage, config.getProjectName());
         
         String filePath = projectPath + File.separator + "src/main/java/" + fullPackagePath + File.separator + "web/handler/GlobalExceptionHandler.java";
-        fileUtils.writeFile(filePath, classContent);
+        output.writeFile(projectPath, filePath, classContent);
     }
     
-    private void generateRequestLoggingFilter(String projectPath, ProjectConfig config) {
+    private void generateRequestLoggingFilter(String projectPath, ProjectConfig config, ProjectOutput output) {
         String fullPackage = config.getFullPackage();
         String fullPackagePath = fullPackage.replace(".", File.separator);
         
@@ -582,10 +589,10 @@ public class JavaCodeGeneratorService {
             """, fullPackagePath, fullPackage, config.getProjectName());
         
         String filePath = projectPath + File.separator + "src/main/java/" + fullPackagePath + File.separator + "web/filter/RequestLoggingFilter.java";
-        fileUtils.writeFile(filePath, classContent);
+        output.writeFile(projectPath, filePath, classContent);
     }
     
-    private void generateStaticWebResources(String projectPath, ProjectConfig config) {
+    private void generateStaticWebResources(String projectPath, ProjectConfig config, ProjectOutput output) {
         // Generate a simple index.html for Java Rest API + HTML/CSS/JS
         String indexHtml = String.format("""
             <!DOCTYPE html>
@@ -659,9 +666,9 @@ public class JavaCodeGeneratorService {
             });
             """, config.getProjectName());
         
-        fileUtils.writeFile(projectPath + "/src/main/resources/static/index.html", indexHtml);
-        fileUtils.writeFile(projectPath + "/src/main/resources/static/css/style.css", basicCss);
-        fileUtils.writeFile(projectPath + "/src/main/resources/static/js/app.js", basicJs);
+        output.writeFile(projectPath, projectPath + "/src/main/resources/static/index.html", indexHtml);
+        output.writeFile(projectPath, projectPath + "/src/main/resources/static/css/style.css", basicCss);
+        output.writeFile(projectPath, projectPath + "/src/main/resources/static/js/app.js", basicJs);
     }
     
     private String toPascalCase(String input) {
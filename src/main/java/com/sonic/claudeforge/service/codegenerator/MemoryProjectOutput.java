@@ -0,0 +1,46 @@
+// src/main/java/com/sonic/claudeforge/service/codegenerator/MemoryProjectOutput.java
+package com.sonic.claudeforge.service.codegenerator;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generates a project into memory for a dry run; nothing touches the workspace
+ * Collects each file's content by its path relative to the workspace, with forward slashes
+ * Directories are only implied by the files in them
+ * Not thread-safe; one generation writes to it at a time
+ */
+public class MemoryProjectOutput implements ProjectOutput {
+    
+    private final Path workspace;
+    private final Map<String, String> files = new TreeMap<>();
+    
+    /**
+     * @param workspacePath Workspace path the project is generated under; file paths are kept relative to it
+     */
+    public MemoryProjectOutput(String workspacePath) {
+        this.workspace = Paths.get(workspacePath).toAbsolutePath().normalize();
+    }
+    
+    @Override
+    public void createDirectory(String directoryPath) {
+        // Nothing to create; directories exist as prefixes of the collected paths
+    }
+    
+    @Override
+    public void writeFile(String projectPath, String filePath, CharSequence content) {
+        Path target = Paths.get(filePath).toAbsolutePath().normalize();
+        files.put(workspace.relativize(target).toString().replace('\\', '/'), content.toString());
+    }
+    
+    @Override
+    public void finish(String projectPath) {
+        // Files are complete as soon as they are written
+    }
+    
+    // @GENERATE_GETTERS_SETTERS
+    public Map<String, String> getFiles() { return Collections.unmodifiableMap(files); }
+}
\ No newline at end of file
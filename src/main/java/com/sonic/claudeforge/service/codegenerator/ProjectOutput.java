@@ -0,0 +1,27 @@
+// src/main/java/com/sonic/claudeforge/service/codegenerator/ProjectOutput.java
+package com.sonic.claudeforge.service.codegenerator;
+
+/**
+ * Where a project generator puts the directories and files it generates
+ * Paths are the full paths the generator builds from the project config's workspace path
+ */
+public interface ProjectOutput {
+    
+    /**
+     * Create a directory (and its parents) even if no file is written into it
+     */
+    void createDirectory(String directoryPath);
+    
+    /**
+     * Write one file of a project
+     * @param projectPath Root of the project the file belongs to
+     * @param filePath Full path of the file
+     * @param content File content
+     */
+    void writeFile(String projectPath, String filePath, CharSequence content);
+    
+    /**
+     * Called once a project's files are all written
+     */
+    void finish(String projectPath);
+}
\ No newline at end of file
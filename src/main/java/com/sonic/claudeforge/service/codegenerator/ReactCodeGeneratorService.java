@@ -2,7 +2,6 @@
 package com.sonic.claudeforge.service.codegenerator;
 
 import com.sonic.claudeforge.model.ProjectConfig;
-import com.sonic.claudeforge.util.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -18,29 +17,37 @@ public class ReactCodeGeneratorService {
     
     private static final Logger logger = LoggerFactory.getLogger(ReactCodeGeneratorService.class);
     
-    private final FileUtils fileUtils;
+    private final WorkspaceProjectOutput workspaceOutput;
     
-    public ReactCodeGeneratorService(FileUtils fileUtils) {
-        this.fileUtils = fileUtils;
+    public ReactCodeGeneratorService(WorkspaceProjectOutput workspaceOutput) {
+        this.workspaceOutput = workspaceOutput;
     }
     
     public String generateReactProject(ProjectConfig config) {
+        return generateReactProject(config, workspaceOutput);
+    }
+    
+    /**
+     * Generate the project into the given output instead of the workspace on disk
+     */
+    public String generateReactProject(ProjectConfig config, ProjectOutput output) {
         logger.info("Generating React project: {}", config.getProjectName());
         
         String projectPath = config.getFrontendProjectPath();
         
-        createReactProjectStructure(projectPath, config);
-        generatePackageJson(projectPath, config);
-        generateIndexHtml(projectPath, config);
-        generateReactApp(projectPath, config);
-        generateTailwindConfig(projectPath, config);
-        generateViteConfig(projectPath, config);
+        createReactProjectStructure(projectPath, config, output);
+        generatePackageJson(projectPath, config, output);
+        generateIndexHtml(projectPath, config, output);
+        generateReactApp(projectPath, config, output);
+        generateTailwindConfig(projectPath, config, output);
+        generateViteConfig(projectPath, config, output);
         
+        output.finish(projectPath);
         logger.info("React project generated successfully at: {}", projectPath);
         return projectPath;
     }
     
-    private void createReactProjectStructure(String projectPath, ProjectConfig config) {
+    private void createReactProjectStructure(String projectPath, ProjectConfig config, ProjectOutput output) {
         // Create React project directories
         String[] directories = {
             "src",
@@ -56,11 +63,11 @@ public class ReactCodeGeneratorService {
         };
         
         for (String dir : directories) {
-            fileUtils.createDirectory(projectPath + File.separator + dir);
+            output.createDirectory(projectPath + File.separator + dir);
         }
     }
     
-    private void generatePackageJson(String projectPath, ProjectConfig config) {
+    private void generatePackageJson(String projectPath, ProjectConfig config, ProjectOutput output) {
         String projectName = config.getProjectName();
         if (config.getFrontendProjectPath().contains("-web")) {
             projectName = config.getProjectName() + "-web";
@@ -104,10 +111,10 @@ public class ReactCodeGeneratorService {
             }
             """, projectName, config.getVersion());
         
-        fileUtils.writeFile(projectPath + File.separator + "package.json", packageJson);
+        output.writeFile(projectPath, projectPath + File.separator + "package.json", packageJson);
     }
     
-    private void generateIndexHtml(String projectPath, ProjectConfig config) {
+    private void generateIndexHtml(String projectPath, ProjectConfig config, ProjectOutput output) {
         String indexHtml = String.format("""
             <!doctype html>
             <html lang="en">
@@ -124,10 +131,10 @@ public class ReactCodeGeneratorService {
             </html>
             """, config.getProjectName());
         
-        fileUtils.writeFile(projectPath + File.separator + "index.html", indexHtml);
+        output.writeFile(projectPath, projectPath + File.separator + "index.html", indexHtml);
     }
     
-    private void generateReactApp(String projectPath, ProjectConfig config) {
+    private void generateReactApp(String projectPath, ProjectConfig config, ProjectOutput output) {
         // Generate main.tsx
         String mainTsx = """
             // src/main.tsx
@@ -334,14 +341,14 @@ public class ReactCodeGeneratorService {
             }
             """;
         
-        fileUtils.writeFile(projectPath + "/src/main.tsx", mainTsx);
-        fileUtils.writeFile(projectPath + "/src/App.tsx", appTsx);
-        fileUtils.writeFile(projectPath + "/src/pages/HomePage.tsx", homePageTsx);
-        fileUtils.writeFile(projectPath + "/src/styles/index.css", indexCss);
-        fileUtils.writeFile(projectPath + "/src/styles/App.css", appCss);
+        output.writeFile(projectPath, projectPath + "/src/main.tsx", mainTsx);
+        output.writeFile(projectPath, projectPath + "/src/App.tsx", appTsx);
+        output.writeFile(projectPath, projectPath + "/src/pages/HomePage.tsx", homePageTsx);
+        output.writeFile(projectPath, projectPath + "/src/styles/index.css", indexCss);
+        output.writeFile(projectPath, projectPath + "/src/styles/App.css", appCss);
     }
     
-    private void generateTailwindConfig(String projectPath, ProjectConfig config) {
+    private void generateTailwindConfig(String projectPath, ProjectConfig config, ProjectOutput output) {
         String tailwindConfig = """
             /** @type {import('tailwindcss').Config} */
             export default {
@@ -365,11 +372,11 @@ public class ReactCodeGeneratorService {
             }
             """;
         
-        fileUtils.writeFile(projectPath + "/tailwind.config.js", tailwindConfig);
-        fileUtils.writeFile(projectPath + "/postcss.config.js", postcssConfig);
+        output.writeFile(projectPath, projectPath + "/tailwind.config.js", tailwindConfig);
+        output.writeFile(projectPath, projectPath + "/postcss.config.js", postcssConfig);
     }
     
-    private void generateViteConfig(String projectPath, ProjectConfig config) {
+    private void generateViteConfig(String projectPath, ProjectConfig config, ProjectOutput output) {
         String viteConfig = """
             import { defineConfig } from 'vite'
             import react from '@vitejs/plugin-react-swc'
@@ -434,8 +441,8 @@ public class ReactCodeGeneratorService {
             }
             """;
         
-        fileUtils.writeFile(projectPath + "/vite.config.ts", viteConfig);
-        fileUtils.writeFile(projectPath + "/tsconfig.json", tsConfig);
-        fileUtils.writeFile(projectPath + "/tsconfig.node.json", tsConfigNode);
+        output.writeFile(projectPath, projectPath + "/vite.config.ts", viteConfig);
+        output.writeFile(projectPath, projectPath + "/tsconfig.json", tsConfig);
+        output.writeFile(projectPath, projectPath + "/tsconfig.node.json", tsConfigNode);
     }
 }
\ No newline at end of file
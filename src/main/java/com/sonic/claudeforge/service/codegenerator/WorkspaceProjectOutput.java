@@ -0,0 +1,36 @@
+// src/main/java/com/sonic/claudeforge/service/codegenerator/WorkspaceProjectOutput.java
+package com.sonic.claudeforge.service.codegenerator;
+
+import com.sonic.claudeforge.service.GeneratedFileWriter;
+import com.sonic.claudeforge.util.FileUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates projects into the workspace on disk, through the shared file writer
+ */
+@Component
+public class WorkspaceProjectOutput implements ProjectOutput {
+    
+    private final FileUtils fileUtils;
+    private final GeneratedFileWriter fileWriter;
+    
+    public WorkspaceProjectOutput(FileUtils fileUtils, GeneratedFileWriter fileWriter) {
+        this.fileUtils = fileUtils;
+        this.fileWriter = fileWriter;
+    }
+    
+    @Override
+    public void createDirectory(String directoryPath) {
+        fileUtils.createDirectory(directoryPath);
+    }
+    
+    @Override
+    public void writeFile(String projectPath, String filePath, CharSequence content) {
+        fileWriter.writeFile(projectPath, filePath, content);
+    }
+    
+    @Override
+    public void finish(String projectPath) {
+        fileWriter.finish(projectPath);
+    }
+}
\ No newline at end of file
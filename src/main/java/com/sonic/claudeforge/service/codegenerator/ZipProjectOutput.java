@@ -0,0 +1,113 @@
+// src/main/java/com/sonic/claudeforge/service/codegenerator/ZipProjectOutput.java
+package com.sonic.claudeforge.service.codegenerator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Generates a project straight into a ZIP stream; nothing touches the workspace
+ * Each file is compressed and passed on as it is written, so only the entry being written is
+ * buffered and the archive starts flowing before generation finishes
+ * Generate with the workspace path set to {@link #ROOT}; entries are named relative to it
+ * Not thread-safe; one generation writes to it at a time
+ */
+public class ZipProjectOutput implements ProjectOutput {
+    
+    /**
+     * Workspace path to generate under; entry names are the paths below it
+     */
+    public static final String ROOT = ".";
+    
+    private static final Logger logger = LoggerFactory.getLogger(ZipProjectOutput.class);
+    private static final int CHUNK_CHARS = 8192;
+    
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final Set<String> entries = new HashSet<>();
+    
+    public ZipProjectOutput(OutputStream out) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+    }
+    
+    @Override
+    public void createDirectory(String directoryPath) {
+        String name = entryName(directoryPath);
+        if (name.isEmpty()) {
+            return;
+        }
+        try {
+            putEntry(name + "/");
+            zip.closeEntry();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write directory to ZIP: " + name, e);
+        }
+    }
+    
+    @Override
+    public void writeFile(String projectPath, String filePath, CharSequence content) {
+        String name = entryName(filePath);
+        try {
+            if (!putEntry(name)) {
+                logger.warn("Skipping duplicate ZIP entry: {}", name);
+                return;
+            }
+            // Encode in chunks so a large file is never copied whole
+            for (int start = 0; start < content.length(); start += CHUNK_CHARS) {
+                writer.append(content, start, Math.min(start + CHUNK_CHARS, content.length()));
+            }
+            writer.flush();
+            zip.closeEntry();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write file to ZIP: " + name, e);
+        }
+        logger.debug("Zipped file: {} ({} chars)", name, content.length());
+    }
+    
+    @Override
+    public void finish(String projectPath) {
+        // Entries are complete as soon as they are written
+    }
+    
+    /**
+     * Write the ZIP's central directory; the underlying stream is left open
+     */
+    public void complete() throws IOException {
+        zip.finish();
+        zip.flush();
+        logger.info("Streamed ZIP with {} entries", entries.size());
+    }
+    
+    private boolean putEntry(String name) throws IOException {
+        if (!entries.add(name)) {
+            return false;
+        }
+        zip.putNextEntry(new ZipEntry(name));
+        return true;
+    }
+    
+    /**
+     * Path below the root, with forward slashes
+     * @throws IllegalArgumentException If the path leads outside the root
+     */
+    private String entryName(String path) {
+        Path relative = Paths.get(path.replace('\\', '/')).normalize();
+        String name = relative.toString().replace('\\', '/');
+        if (relative.isAbsolute() || name.equals("..") || name.startsWith("../")) {
+            throw new IllegalArgumentException("Path is outside the project: " + path);
+        }
+        return name;
+    }
+}
\ No newline at end of file
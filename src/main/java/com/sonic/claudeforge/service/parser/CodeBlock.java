@@ -0,0 +1,69 @@
+// src/main/java/com/sonic/claudeforge/service/parser/CodeBlock.java
+package com.sonic.claudeforge.service.parser;
+
+import java.util.Locale;
+
+/**
+ * A fenced code block found in a Claude response
+ * Stores offsets into the original response instead of copying the block body
+ */
+public class CodeBlock {
+    
+    private final String source;
+    private final String language;
+    private final String routeLanguage;
+    private final String pathComment;
+    private final int blockStart;
+    private final int blockEnd;
+    private final int bodyStart;
+    private final int bodyEnd;
+    
+    public CodeBlock(String source, String language, String pathComment,
+                     int blockStart, int blockEnd, int bodyStart, int bodyEnd) {
+        this.source = source;
+        this.language = language;
+        this.pathComment = pathComment;
+        this.routeLanguage = language.isEmpty() && hasPath() ? pathExtension(pathComment) : language;
+        this.blockStart = blockStart;
+        this.blockEnd = blockEnd;
+        this.bodyStart = bodyStart;
+        this.bodyEnd = bodyEnd;
+    }
+    
+    /**
+     * Check if the block declared a file path comment on its first line
+     */
+    public boolean hasPath() {
+        return pathComment != null && !pathComment.isEmpty();
+    }
+    
+    /**
+     * Get the fence tag parsers receive the block by: its own tag, or for an untagged fence
+     * the lower-case extension of its path comment (e.g. "java" for an untagged Foo.java block)
+     */
+    public String getRouteLanguage() {
+        return routeLanguage;
+    }
+    
+    private static String pathExtension(String path) {
+        int nameStart = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\')) + 1;
+        int dot = path.lastIndexOf('.');
+        return dot > nameStart ? path.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+    
+    /**
+     * Get the trimmed block body as a view into the response
+     */
+    public ContentSlice getBody() {
+        return new ContentSlice(source, bodyStart, bodyEnd).trim();
+    }
+    
+    // @GENERATE_GETTERS_SETTERS
+    public String getSource() { return source; }
+    public String getLanguage() { return language; }
+    public String getPathComment() { return pathComment; }
+    public int getBlockStart() { return blockStart; }
+    public int getBlockEnd() { return blockEnd; }
+    public int getBodyStart() { return bodyStart; }
+    public int getBodyEnd() { return bodyEnd; }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+// src/main/java/com/sonic/claudeforge/service/parser/CodeFenceTokenizer.java
+package com.sonic.claudeforge.service.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Single-pass tokenizer for markdown code fences in Claude responses
+ * Walks the response once and records each block's language, path comment and body offsets
+ */
+public final class CodeFenceTokenizer {
+    
+    private static final String FENCE = "```";
+    
+    private CodeFenceTokenizer() {}
+    
+    /**
+     * Tokenize a Claude response
+     * @param content The raw content from Claude response
+     * @return Fenced blocks plus the unfenced segments between them
+     */
+    public static TokenizedContent tokenize(String content) {
+        List<CodeBlock> blocks = new ArrayList<>();
+        List<TokenizedContent.Segment> segments = new ArrayList<>();
+        
+        int length = content.length();
+        int position = 0;
+        
+        while (position < length) {
+            int open = content.indexOf(FENCE, position);
+            if (open < 0) {
+                break;
+            }
+            
+            // Language tag directly follows the opening fence
+            int tagEnd = open + FENCE.length();
+            while (tagEnd < length && isTagChar(content.charAt(tagEnd))) {
+                tagEnd++;
+            }
+            String language = content.substring(open + FENCE.length(), tagEnd).toLowerCase(Locale.ROOT);
+            
+            // Optional path comment on the next non-blank text (// path or /* path */)
+            int cursor = tagEnd;
+            while (cursor < length && Character.isWhitespace(content.charAt(cursor))) {
+                cursor++;
+            }
+            
+            String pathComment = null;
+            int bodyStart;
+            if (content.startsWith("//", cursor) || content.startsWith("/*", cursor)) {
+                int lineEnd = content.indexOf('\n', cursor);
+                if (lineEnd < 0) {
+                    break;
+                }
+                pathComment = cleanPathComment(content.substring(cursor + 2, lineEnd));
+                bodyStart = lineEnd + 1;
+            } else {
+                int lineEnd = content.indexOf('\n', tagEnd);
+                if (lineEnd < 0) {
+                    break;
+                }
+                bodyStart = lineEnd + 1;
+            }
+            
+            int close = content.indexOf(FENCE, bodyStart);
+            if (close < 0) {
+                // Unterminated fence - leave the rest as unfenced text
+                break;
+            }
+            
+            if (open > position) {
+                segments.add(new TokenizedContent.Segment(position, open));
+            }
+            
+            int blockEnd = close + FENCE.length();
+            blocks.add(new CodeBlock(content, language, pathComment, open, blockEnd, bodyStart, close));
+            position = blockEnd;
+        }
+        
+        if (position < length) {
+            segments.add(new TokenizedContent.Segment(position, length));
+        }
+        
+        return new TokenizedContent(content, blocks, segments);
+    }
+    
+    private static boolean isTagChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '#' || c == '_' || c == '.';
+    }
+    
+    private static String cleanPathComment(String comment) {
+        String path = comment.trim();
+        if (path.endsWith("*/")) {
+            path = path.substring(0, path.length() - 2).trim();
+        }
+        return path;
+    }
+}
\ No newline at end of file
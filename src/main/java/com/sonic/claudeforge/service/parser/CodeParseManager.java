@@ -1,13 +1,32 @@
 // src/main/java/com/sonic/claudeforge/service/parser/CodeParseManager.java
 package com.sonic.claudeforge.service.parser;
 
+import com.sonic.claudeforge.config.ClaudeForgeProperties;
+import com.sonic.claudeforge.util.ContentHash;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Manager for coordinating different code parsers
@@ -18,14 +37,37 @@ public class CodeParseManager {
     
     private static final Logger logger = LoggerFactory.getLogger(CodeParseManager.class);
     
+    private final ParserRegistry registry;
     private final List<CodeParser> parsers;
+    private final ClaudeForgeProperties.Parser parserProperties;
+    private final ExecutorService parserExecutor;
+    private final ContentFeatureScanner featureScanner;
+    private final ParseResultCache resultCache;
+    private final ParserMetrics metrics;
+    private final List<String[]> parserExtensions;
+    private final int minConfidence;
     
-    public CodeParseManager(JavaCodeParser javaParser,
-                           ReactCodeParser reactParser,
-                           TypeScriptCodeParser typeScriptParser,
-                           CssCodeParser cssParser,
-                           HtmlCodeParser htmlParser) {
-        this.parsers = List.of(javaParser, reactParser, typeScriptParser, cssParser, htmlParser);
+    public CodeParseManager(ParserRegistry registry,
+                           ClaudeForgeProperties properties,
+                           @Qualifier("parserExecutor") ExecutorService parserExecutor,
+                           MeterRegistry meterRegistry) {
+        this.registry = registry;
+        this.parsers = registry.getParsers();
+        this.parserProperties = properties.getParser();
+        this.parserExecutor = parserExecutor;
+        this.minConfidence = parserProperties.getMinConfidence();
+        this.featureScanner = new ContentFeatureScanner(parsers);
+        this.parserExtensions = parsers.stream()
+                .map(parser -> Arrays.stream(parser.getSupportedExtensions())
+                        .map(extension -> extension.toLowerCase(Locale.ROOT))
+                        .toArray(String[]::new))
+                .toList();
+        
+        ClaudeForgeProperties.Parser.Cache cache = parserProperties.getCache();
+        this.resultCache = cache.isEnabled()
+                ? new ParseResultCache(cache.getMaxEntries(), cache.getMaxWeight())
+                : null;
+        this.metrics = new ParserMetrics(meterRegistry, parsers);
         logger.info("Initialized CodeParseManager with {} parsers: {}", 
                    parsers.size(), 
                    parsers.stream().map(CodeParser::getParserType).collect(Collectors.joining(", ")));
@@ -37,38 +79,500 @@ public class CodeParseManager {
      * @return List of parsed files from all parsers
      */
     public ParseResult parseAll(String content) {
+        metrics.recordResponse(content.length());
+        if (resultCache == null) {
+            return parseAllUncached(content);
+        }
+        return resultCache.get(content, "all", () -> parseAllUncached(content));
+    }
+    
+    private ParseResult parseAllUncached(String content) {
         logger.info("Parsing content with {} parsers (content length: {})", parsers.size(), content.length());
         
         ParseResult result = new ParseResult();
-        List<ParsedFile> allFiles = new ArrayList<>();
         
+        // Walk the response once and hand each parser only the blocks routed to it
+        TokenizedContent tokenized = CodeFenceTokenizer.tokenize(content);
+        List<TokenizedContent> routed = registry.route(tokenized);
+        logger.debug("Tokenized content into {} fenced blocks", tokenized.getBlocks().size());
+        
+        // Find every parser's detection keywords in one pass as well
+        ContentFeatures features = featureScanner.scan(content);
+        
+        List<ParserRun> runs = shouldRunInParallel(content)
+                ? runParallel(features, routed)
+                : runSequential(features, routed);
+        
+        // Merge in parser registration order, regardless of completion order
+        for (int i = 0; i < runs.size(); i++) {
+            ParserRun run = runs.get(i);
+            int parserIndex = i;
+            String parserType = run.parser.getParserType();
+            if (run.error != null) {
+                logger.error("Error in parser {}: {}", parserType, run.error.getMessage(), run.error);
+                result.addError(parserType, run.error.getMessage());
+            } else if (run.files == null) {
+                logger.debug("Parser {} cannot handle this content", parserType);
+            } else if (!run.files.isEmpty()) {
+                logger.info("Parser {} found {} files", parserType, run.files.size());
+                result.addParserResult(parserType, run.files, file -> priorityOf(parserIndex, file));
+            } else {
+                logger.debug("Parser {} found no files", parserType);
+            }
+        }
+        
+        result.setSuccess(result.hasFiles());
+        
+        if (result.getDuplicateFiles() > 0) {
+            logger.info("Resolved {} duplicate file paths across parsers", result.getDuplicateFiles());
+        }
+        logger.info("Parsing completed: {} total files found", result.getAllFiles().size());
+        return result;
+    }
+    
+    /**
+     * Rank a file against files with the same path from other parsers; lower wins
+     * A parser that declares the file's extension beats one that does not, then the parser
+     * with fewer extensions (the more specific one), then the parser registered first
+     */
+    private int priorityOf(int parserIndex, ParsedFile file) {
+        String path = file.getFilePath() != null ? file.getFilePath().toLowerCase(Locale.ROOT) : "";
+        String[] extensions = parserExtensions.get(parserIndex);
+        
+        boolean declared = false;
+        for (String extension : extensions) {
+            if (path.endsWith(extension)) {
+                declared = true;
+                break;
+            }
+        }
+        
+        int rank = extensions.length * parsers.size() + parserIndex;
+        return declared ? rank : rank + (1 << 20);
+    }
+    
+    /**
+     * Parse a response incrementally from a Reader
+     * Fenced files are handed to the listener as soon as their closing fence arrives; raw
+     * (unfenced) files are parsed once the stream ends, for parsers that found no fenced files.
+     * Prose that could hold raw files is buffered until then, up to claudeforge.parser.max-unfenced-text
+     * characters in all; a single run of prose longer than that is dropped while it is read. Raw files
+     * past the limit are not found
+     * @param reader Source of the Claude response
+     * @param listener Receives parsed files and parser errors
+     * @return Number of files emitted
+     */
+    public int parseStreaming(Reader reader, ParsedFileListener listener) throws IOException {
+        return parseStreaming(reader, (parser, files) -> files.forEach(listener::onFile), listener::onError);
+    }
+    
+    /**
+     * Parse a response incrementally from a Reader into a result
+     * Duplicate paths are resolved like {@link #parseAll}; the response itself is never held in full,
+     * only fenced blocks one at a time and the bounded unfenced prose described in {@link #parseStreaming}
+     * @param reader Source of the Claude response
+     * @return Files found by all parsers
+     */
+    public ParseResult parseStream(Reader reader) throws IOException {
+        ParseResult result = new ParseResult();
+        parseStreaming(reader, (parser, files) -> {
+            int parserIndex = parsers.indexOf(parser);
+            result.addParserResult(parser.getParserType(), files, file -> priorityOf(parserIndex, file));
+        }, result::addError);
+        result.setSuccess(result.hasFiles());
+        return result;
+    }
+    
+    private int parseStreaming(Reader reader, BiConsumer<CodeParser, List<ParsedFile>> sink,
+                               BiConsumer<String, String> errors) throws IOException {
+        logger.info("Parsing streamed content with {} parsers", parsers.size());
+        
+        Set<String> parsersWithFiles = new HashSet<>();
+        int maxUnfencedText = parserProperties.getMaxUnfencedText();
+        UnfencedText rawText = new UnfencedText(maxUnfencedText);
+        int[] fileCount = {0};
+        
+        StreamingFenceTokenizer tokenizer = new StreamingFenceTokenizer(new StreamingFenceTokenizer.Listener() {
+            @Override
+            public void onBlock(CodeBlock block) {
+                parseBlock(block, (parser, files) -> {
+                    parsersWithFiles.add(parser.getParserType());
+                    fileCount[0] += files.size();
+                    sink.accept(parser, files);
+                }, errors);
+            }
+            
+            @Override
+            public void onText(String text) {
+                rawText.add(text);
+            }
+        }, maxUnfencedText);
+        tokenizer.tokenize(reader);
+        metrics.recordResponse((int) Math.min(tokenizer.getLength(), Integer.MAX_VALUE));
+        
+        if (rawText.isTruncated() || tokenizer.isTextTruncated()) {
+            logger.warn("Unfenced text past {} characters was not parsed for raw files", maxUnfencedText);
+        }
+        if (!rawText.isEmpty()) {
+            parseUnfencedText(rawText.toTokenizedContent(), parsersWithFiles, (parser, files) -> {
+                fileCount[0] += files.size();
+                sink.accept(parser, files);
+            }, errors);
+        }
+        
+        logger.info("Streaming parse completed: {} total files found", fileCount[0]);
+        return fileCount[0];
+    }
+    
+    /**
+     * Re-parse a revised response, reusing the files of every fenced block the session has already seen
+     * Only new or edited blocks are handed to parsers; the unfenced text is reparsed only when it
+     * (or the set of parsers that found fenced files) changed. Blocks are parsed on their own, as
+     * in {@link #parseStreaming}, so a block's files never depend on the rest of the response
+     * @param content Revised Claude response
+     * @param session State of the previous revision; updated to this one
+     * @return Files found by all parsers, deduplicated like {@link #parseAll}
+     */
+    public ParseResult parseIncremental(String content, ParseSession session) {
+        metrics.recordResponse(content.length());
+        
+        synchronized (session) {
+            ParseResult result = new ParseResult();
+            boolean[] failed = {false};
+            BiConsumer<String, String> errors = (parserType, message) -> {
+                failed[0] = true;
+                result.addError(parserType, message);
+            };
+            
+            TokenizedContent tokenized = CodeFenceTokenizer.tokenize(content);
+            Map<ParseSession.BlockKey, List<ParseSession.ParserFiles>> blocks = new HashMap<>();
+            Set<String> parsersWithFiles = new HashSet<>();
+            int reused = 0;
+            int parsed = 0;
+            
+            for (CodeBlock block : tokenized.getBlocks()) {
+                ParseSession.BlockKey key = new ParseSession.BlockKey(block);
+                List<ParseSession.ParserFiles> blockFiles = blocks.containsKey(key) ? blocks.get(key) : session.findBlock(key);
+                failed[0] = false;
+                if (blockFiles != null) {
+                    reused++;
+                } else {
+                    List<ParseSession.ParserFiles> found = new ArrayList<>();
+                    parseBlock(block, (parser, files) -> found.add(new ParseSession.ParserFiles(parser, files)), errors);
+                    blockFiles = found;
+                    parsed++;
+                }
+                
+                // Errors may be transient, so a failed block is parsed again next time
+                if (!failed[0]) {
+                    blocks.put(key, blockFiles);
+                }
+                for (ParseSession.ParserFiles parserFiles : blockFiles) {
+                    parsersWithFiles.add(parserFiles.parserType);
+                }
+                addFiles(result, blockFiles);
+            }
+            
+            TokenizedContent unfenced = unfencedText(tokenized);
+            String unfencedHash = ContentHash.sha256(unfenced.getContent());
+            List<ParseSession.ParserFiles> unfencedFiles = session.findUnfenced(unfencedHash, parsersWithFiles);
+            failed[0] = false;
+            if (unfencedFiles == null) {
+                List<ParseSession.ParserFiles> found = new ArrayList<>();
+                parseUnfencedText(unfenced, parsersWithFiles, (parser, files) -> found.add(new ParseSession.ParserFiles(parser, files)), errors);
+                unfencedFiles = found;
+            }
+            addFiles(result, unfencedFiles);
+            
+            session.update(blocks, failed[0] ? null : unfencedHash, parsersWithFiles, unfencedFiles, reused, parsed);
+            result.setSuccess(result.hasFiles());
+            
+            logger.info("Incremental parse completed: {} blocks reparsed, {} reused, {} total files found",
+                       parsed, reused, result.getAllFiles().size());
+            return result;
+        }
+    }
+    
+    private void addFiles(ParseResult result, List<ParseSession.ParserFiles> found) {
+        for (ParseSession.ParserFiles parserFiles : found) {
+            int parserIndex = indexOfParser(parserFiles.parserType);
+            if (parserIndex < 0) {
+                // A session restored from an earlier deployment may name a parser that is gone
+                continue;
+            }
+            result.addParserResult(parserFiles.parserType, parserFiles.files, file -> priorityOf(parserIndex, file));
+        }
+    }
+    
+    private int indexOfParser(String parserType) {
+        for (int i = 0; i < parsers.size(); i++) {
+            if (parsers.get(i).getParserType().equals(parserType)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Unfenced text that could hold raw files with path comments
+     */
+    private TokenizedContent unfencedText(TokenizedContent tokenized) {
+        UnfencedText texts = new UnfencedText(Integer.MAX_VALUE);
+        String content = tokenized.getContent();
+        for (TokenizedContent.Segment segment : tokenized.getUnfencedSegments()) {
+            texts.add(content.substring(segment.getStart(), segment.getEnd()));
+        }
+        return texts.toTokenizedContent();
+    }
+    
+    /**
+     * Parse one fenced block on its own with every parser that owns its fence tag
+     */
+    private void parseBlock(CodeBlock block, BiConsumer<CodeParser, List<ParsedFile>> sink, BiConsumer<String, String> errors) {
+        TokenizedContent single = new TokenizedContent(block.getSource(), List.of(block), List.of());
+        for (CodeParser parser : registry.getOwners(block.getRouteLanguage())) {
+            try {
+                List<ParsedFile> files = metrics.parse(parser, single);
+                if (!files.isEmpty()) {
+                    sink.accept(parser, files);
+                }
+            } catch (Exception e) {
+                logger.error("Error in parser {}: {}", parser.getParserType(), e.getMessage(), e);
+                errors.accept(parser.getParserType(), e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Parse text outside fenced blocks with the parsers that read it and found no fenced files
+     */
+    private void parseUnfencedText(TokenizedContent unfenced, Set<String> parsersWithFiles,
+                                   BiConsumer<CodeParser, List<ParsedFile>> sink, BiConsumer<String, String> errors) {
+        if (unfenced.getContent().isEmpty()) {
+            return;
+        }
+        ContentFeatures features = featureScanner.scan(unfenced.getContent());
         for (CodeParser parser : parsers) {
+            if (!parser.parsesUnfencedText() || parsersWithFiles.contains(parser.getParserType())) {
+                continue;
+            }
             try {
-                if (parser.canHandle(content)) {
-                    logger.debug("Parser {} can handle this content", parser.getParserType());
-                    
-                    List<ParsedFile> files = parser.parse(content);
-                    if (!files.isEmpty()) {
-                        logger.info("Parser {} found {} files", parser.getParserType(), files.size());
-                        allFiles.addAll(files);
-                        result.addParserResult(parser.getParserType(), files);
-                    } else {
-                        logger.debug("Parser {} found no files", parser.getParserType());
-                    }
-                } else {
-                    logger.debug("Parser {} cannot handle this content", parser.getParserType());
+                int score = metrics.confidence(parser, features);
+                if (score >= minConfidence) {
+                    sink.accept(parser, metrics.parse(parser, unfenced));
+                } else if (score > CodeParser.NO_CONFIDENCE) {
+                    metrics.skipped(parser, "confidence");
                 }
             } catch (Exception e) {
                 logger.error("Error in parser {}: {}", parser.getParserType(), e.getMessage(), e);
-                result.addError(parser.getParserType(), e.getMessage());
+                errors.accept(parser.getParserType(), e.getMessage());
+            }
+        }
+    }
+    
+    private boolean shouldRunInParallel(String content) {
+        return parserProperties.isParallel()
+                && parsers.size() > 1
+                && content.length() >= parserProperties.getParallelThreshold();
+    }
+    
+    /**
+     * Run parsers one at a time in descending confidence order
+     * A fenced block becomes claimed once a parser produced a valid file from it that no parser
+     * still to run would outrank; later parsers do not see claimed blocks, and a parser left with
+     * nothing but claimed blocks is skipped
+     */
+    private List<ParserRun> runSequential(ContentFeatures features, List<TokenizedContent> routed) {
+        ParserRun[] runs = new ParserRun[parsers.size()];
+        int[] scores = score(features, routed, runs);
+        
+        boolean[] done = new boolean[parsers.size()];
+        Set<CodeBlock> claimed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i : byDescendingScore(scores)) {
+            if (runs[i] == null) {
+                runs[i] = runScheduled(parsers.get(i), scores[i], unclaimed(routed.get(i), claimed));
             }
+            done[i] = true;
+            claim(i, runs[i], routed.get(i), done, claimed);
         }
+        return Arrays.asList(runs);
+    }
+    
+    private List<ParserRun> runParallel(ContentFeatures features, List<TokenizedContent> routed) {
+        logger.debug("Running {} parsers in parallel", parsers.size());
         
-        result.setAllFiles(allFiles);
-        result.setSuccess(!allFiles.isEmpty());
+        ParserRun[] runs = new ParserRun[parsers.size()];
+        int[] scores = score(features, routed, runs);
         
-        logger.info("Parsing completed: {} total files found", allFiles.size());
-        return result;
+        // Claims need the earlier runs' files, so parallel runs only use the scores
+        List<Future<ParserRun>> futures = new ArrayList<>(Collections.nCopies(parsers.size(), null));
+        for (int i : byDescendingScore(scores)) {
+            if (runs[i] == null) {
+                CodeParser parser = parsers.get(i);
+                int score = scores[i];
+                TokenizedContent view = routed.get(i);
+                futures.set(i, parserExecutor.submit(() -> runScheduled(parser, score, view)));
+            }
+        }
+        
+        for (int i = 0; i < futures.size(); i++) {
+            if (futures.get(i) == null) {
+                continue;
+            }
+            CodeParser parser = parsers.get(i);
+            try {
+                runs[i] = futures.get(i).get();
+            } catch (ExecutionException e) {
+                runs[i] = ParserRun.failed(parser, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (int j = i; j < futures.size(); j++) {
+                    if (futures.get(j) != null) {
+                        futures.get(j).cancel(true);
+                        runs[j] = ParserRun.failed(parsers.get(j), e);
+                    }
+                }
+                break;
+            }
+        }
+        return Arrays.asList(runs);
+    }
+    
+    /**
+     * Score every parser; a parser whose scoring throws gets a failed run instead
+     */
+    private int[] score(ContentFeatures features, List<TokenizedContent> routed, ParserRun[] runs) {
+        int[] scores = new int[parsers.size()];
+        for (int i = 0; i < parsers.size(); i++) {
+            try {
+                scores[i] = score(parsers.get(i), features, routed.get(i));
+            } catch (Exception e) {
+                runs[i] = ParserRun.failed(parsers.get(i), e);
+            }
+        }
+        return scores;
+    }
+    
+    /**
+     * Confidence that a parser finds files in its view
+     * Fenced blocks routed to a parser are as strong a signal as there is; a parser that could
+     * only read unfenced text scores itself from the features, and one with no work scores nothing
+     */
+    private int score(CodeParser parser, ContentFeatures features, TokenizedContent view) {
+        if (!registry.hasWork(parser, view)) {
+            return CodeParser.NO_CONFIDENCE;
+        }
+        return view.hasBlocks() ? CodeParser.FULL_CONFIDENCE : metrics.confidence(parser, features);
+    }
+    
+    /**
+     * Parser indexes by descending score, ties in registration order
+     */
+    private static int[] byDescendingScore(int[] scores) {
+        return IntStream.range(0, scores.length)
+                .boxed()
+                .sorted((a, b) -> scores[a] != scores[b] ? Integer.compare(scores[b], scores[a]) : Integer.compare(a, b))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+    
+    /**
+     * View without the claimed blocks
+     * A parser that loses blocks to claims had fenced work, so it does not fall back to the unfenced text
+     * @return The view, or null if every block routed to the parser is claimed
+     */
+    private TokenizedContent unclaimed(TokenizedContent view, Set<CodeBlock> claimed) {
+        if (claimed.isEmpty() || !view.hasBlocks()) {
+            return view;
+        }
+        List<CodeBlock> blocks = new ArrayList<>(view.getBlocks().size());
+        for (CodeBlock block : view.getBlocks()) {
+            if (!claimed.contains(block)) {
+                blocks.add(block);
+            }
+        }
+        if (blocks.size() == view.getBlocks().size()) {
+            return view;
+        }
+        return blocks.isEmpty() ? null : new TokenizedContent(view.getContent(), blocks, List.of());
+    }
+    
+    /**
+     * Claim the blocks a run produced valid files from, unless a parser still to run would win their paths
+     */
+    private void claim(int parserIndex, ParserRun run, TokenizedContent view, boolean[] done, Set<CodeBlock> claimed) {
+        if (run.files == null || !view.hasBlocks()) {
+            return;
+        }
+        List<CodeBlock> blocks = view.getBlocks();
+        for (ParsedFile file : run.files) {
+            if (!file.isValid() || !(file.getContentView() instanceof ContentSlice slice)) {
+                continue;
+            }
+            CodeBlock block = blockAt(blocks, slice.offsetIn(view.getContent()));
+            if (block == null || claimed.contains(block)) {
+                continue;
+            }
+            
+            int priority = priorityOf(parserIndex, file);
+            boolean outranked = false;
+            for (CodeParser owner : registry.getOwners(block.getRouteLanguage())) {
+                int ownerIndex = parsers.indexOf(owner);
+                if (!done[ownerIndex] && priorityOf(ownerIndex, file) < priority) {
+                    outranked = true;
+                    break;
+                }
+            }
+            if (!outranked) {
+                claimed.add(block);
+            }
+        }
+    }
+    
+    /**
+     * Block whose body contains an offset, by binary search over blocks in response order
+     */
+    private static CodeBlock blockAt(List<CodeBlock> blocks, int offset) {
+        int low = 0;
+        int high = blocks.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            CodeBlock block = blocks.get(mid);
+            if (offset < block.getBodyStart()) {
+                high = mid - 1;
+            } else if (offset > block.getBodyEnd()) {
+                low = mid + 1;
+            } else {
+                return block;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Run one parser with its own error isolation, unless the scheduler ruled it out
+     * @param view The parser's routed blocks, or null if all of them are claimed
+     */
+    private ParserRun runScheduled(CodeParser parser, int score, TokenizedContent view) {
+        if (score == CodeParser.NO_CONFIDENCE) {
+            return new ParserRun(parser, null, null);
+        }
+        if (score < minConfidence) {
+            logger.debug("Skipping parser {}: confidence {} below {}", parser.getParserType(), score, minConfidence);
+            metrics.skipped(parser, "confidence");
+            return new ParserRun(parser, null, null);
+        }
+        if (view == null) {
+            logger.debug("Skipping parser {}: every block it owns is claimed", parser.getParserType());
+            metrics.skipped(parser, "claimed");
+            return new ParserRun(parser, null, null);
+        }
+        try {
+            logger.debug("Parser {} can handle this content (confidence {})", parser.getParserType(), score);
+            return new ParserRun(parser, metrics.parse(parser, view), null);
+        } catch (Exception e) {
+            return ParserRun.failed(parser, e);
+        }
     }
     
     /**
@@ -78,12 +582,18 @@ public class CodeParseManager {
      * @return List of parsed files from the specified parser
      */
     public ParseResult parseWithSpecificParser(String content, String parserType) {
+        metrics.recordResponse(content.length());
+        if (resultCache == null) {
+            return parseWithSpecificParserUncached(content, parserType);
+        }
+        return resultCache.get(content, parserType.toLowerCase(Locale.ROOT),
+                () -> parseWithSpecificParserUncached(content, parserType));
+    }
+    
+    private ParseResult parseWithSpecificParserUncached(String content, String parserType) {
         logger.info("Parsing content with specific parser: {}", parserType);
         
-        CodeParser targetParser = parsers.stream()
-                .filter(parser -> parser.getParserType().equalsIgnoreCase(parserType))
-                .findFirst()
-                .orElse(null);
+        CodeParser targetParser = registry.find(parserType);
         
         if (targetParser == null) {
             logger.error("Parser type '{}' not found", parserType);
@@ -94,8 +604,7 @@ public class CodeParseManager {
         
         ParseResult result = new ParseResult();
         try {
-            List<ParsedFile> files = targetParser.parse(content);
-            result.setAllFiles(files);
+            List<ParsedFile> files = metrics.parse(targetParser, registry.route(CodeFenceTokenizer.tokenize(content), targetParser));
             result.addParserResult(parserType, files);
             result.setSuccess(!files.isEmpty());
             
@@ -127,21 +636,36 @@ public class CodeParseManager {
                 .map(parser -> new ParserInfo(
                         parser.getParserType(),
                         String.join(", ", parser.getSupportedExtensions()),
+                        String.join(", ", parser.getFenceLanguages()),
                         parser.getClass().getSimpleName()
                 ))
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Get parse result cache counters
+     * @return Hits, misses and current size; all zero when the cache is disabled
+     */
+    public ParseResultCache.CacheStats getCacheStats() {
+        return resultCache != null ? resultCache.getStats() : new ParseResultCache.CacheStats(0, 0, 0, 0);
+    }
+    
     /**
      * Auto-detect which parsers can handle the content
      * @param content Content to analyze
      * @return List of parser types that can handle the content
      */
     public List<String> detectApplicableParsers(String content) {
-        return parsers.stream()
-                .filter(parser -> parser.canHandle(content))
-                .map(CodeParser::getParserType)
-                .collect(Collectors.toList());
+        ContentFeatures features = featureScanner.scan(content);
+        List<TokenizedContent> routed = registry.route(CodeFenceTokenizer.tokenize(content));
+        List<String> applicable = new ArrayList<>();
+        for (int i = 0; i < parsers.size(); i++) {
+            CodeParser parser = parsers.get(i);
+            if (score(parser, features, routed.get(i)) >= minConfidence) {
+                applicable.add(parser.getParserType());
+            }
+        }
+        return applicable;
     }
     
     /**
@@ -150,17 +674,80 @@ public class CodeParseManager {
     public static class ParserInfo {
         private final String type;
         private final String supportedExtensions;
+        private final String fenceLanguages;
         private final String className;
         
-        public ParserInfo(String type, String supportedExtensions, String className) {
+        public ParserInfo(String type, String supportedExtensions, String fenceLanguages, String className) {
             this.type = type;
             this.supportedExtensions = supportedExtensions;
+            this.fenceLanguages = fenceLanguages;
             this.className = className;
         }
         
         // @GENERATE_GETTERS_SETTERS
         public String getType() { return type; }
         public String getSupportedExtensions() { return supportedExtensions; }
+        public String getFenceLanguages() { return fenceLanguages; }
         public String getClassName() { return className; }
     }
+    
+    /**
+     * Outcome of a single parser run: files found, or null when the parser could not handle the content
+     */
+    private static class ParserRun {
+        private final CodeParser parser;
+        private final List<ParsedFile> files;
+        private final Throwable error;
+        
+        ParserRun(CodeParser parser, List<ParsedFile> files, Throwable error) {
+            this.parser = parser;
+            this.files = files;
+            this.error = error;
+        }
+        
+        static ParserRun failed(CodeParser parser, Throwable error) {
+            return new ParserRun(parser, null, error);
+        }
+    }
+    
+    /**
+     * Prose between fenced blocks that could hold raw files with path comments, joined by newlines
+     * Text that would take it past its limit is dropped, along with all text after it
+     */
+    private static class UnfencedText {
+        private final int maxLength;
+        private final StringBuilder joined = new StringBuilder();
+        private final List<TokenizedContent.Segment> segments = new ArrayList<>();
+        private boolean truncated = false;
+        
+        UnfencedText(int maxLength) {
+            this.maxLength = maxLength;
+        }
+        
+        void add(String text) {
+            if (truncated || !(text.contains("//") || text.contains("/*"))) {
+                return;
+            }
+            if (text.length() > maxLength - joined.length()) {
+                truncated = true;
+                return;
+            }
+            int start = joined.length();
+            joined.append(text);
+            segments.add(new TokenizedContent.Segment(start, joined.length()));
+            joined.append('\n');
+        }
+        
+        boolean isEmpty() {
+            return segments.isEmpty();
+        }
+        
+        boolean isTruncated() {
+            return truncated;
+        }
+        
+        TokenizedContent toTokenizedContent() {
+            return new TokenizedContent(joined.toString(), List.of(), segments);
+        }
+    }
 }
\ No newline at end of file
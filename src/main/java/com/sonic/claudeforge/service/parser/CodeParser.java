@@ -8,12 +8,36 @@ import java.util.List;
  */
 public interface CodeParser {
     
+    /**
+     * Wildcard fence tag; a parser declaring it receives the blocks no other parser declares
+     */
+    String ANY_FENCE = "*";
+    
+    /**
+     * Confidence of a parser that sees no sign of its files
+     */
+    int NO_CONFIDENCE = 0;
+    
+    /**
+     * Confidence of a parser whose files are certainly present (e.g. a fence tagged with its language)
+     */
+    int FULL_CONFIDENCE = 100;
+    
     /**
      * Parse content and extract files of specific type
      * @param content The raw content from Claude response
      * @return List of parsed files
      */
-    List<ParsedFile> parse(String content);
+    default List<ParsedFile> parse(String content) {
+        return parse(CodeFenceTokenizer.tokenize(content));
+    }
+    
+    /**
+     * Parse already tokenized content, using only the fenced blocks this parser owns
+     * @param content Response tokenized once by {@link CodeFenceTokenizer}
+     * @return List of parsed files
+     */
+    List<ParsedFile> parse(TokenizedContent content);
     
     /**
      * Get the supported file extensions
@@ -21,6 +45,22 @@ public interface CodeParser {
      */
     String[] getSupportedExtensions();
     
+    /**
+     * Get the fence language tags this parser owns; {@link ParserRegistry} routes blocks by them
+     * @return Lower-case tags (e.g., ["java"]), or [{@link #ANY_FENCE}] for a fallback parser
+     */
+    default String[] getFenceLanguages() {
+        return new String[0];
+    }
+    
+    /**
+     * Check if this parser also looks for raw files in the text outside fenced blocks
+     * @return false if the parser only reads the fenced blocks routed to it
+     */
+    default boolean parsesUnfencedText() {
+        return true;
+    }
+    
     /**
      * Get the parser type name
      * @return Parser type (e.g., "Java", "React", "CSS")
@@ -33,4 +73,39 @@ public interface CodeParser {
      * @return true if this parser can handle the content
      */
     boolean canHandle(String content);
+    
+    /**
+     * Check if this parser can handle content from its pre-screened features
+     * @param features Keywords found in the content by {@link ContentFeatureScanner}
+     * @return true if this parser can handle the content
+     */
+    default boolean canHandle(ContentFeatures features) {
+        return canHandle(features.getContent());
+    }
+    
+    /**
+     * Score how likely the content holds files for this parser, from its pre-screened features only
+     * {@link CodeParseManager} runs parsers in descending score order and skips those below its threshold
+     * @param features Keywords found in the content by {@link ContentFeatureScanner}
+     * @return {@link #NO_CONFIDENCE} to {@link #FULL_CONFIDENCE}
+     */
+    default int getConfidence(ContentFeatures features) {
+        return canHandle(features) ? FULL_CONFIDENCE : NO_CONFIDENCE;
+    }
+    
+    /**
+     * Get the keywords {@link #canHandle(ContentFeatures)} looks up (case-sensitive)
+     * @return Keywords to pre-screen for this parser
+     */
+    default String[] getDetectionKeywords() {
+        return new String[0];
+    }
+    
+    /**
+     * Get the keywords {@link #canHandle(ContentFeatures)} looks up ignoring case
+     * @return Case-insensitive keywords to pre-screen for this parser
+     */
+    default String[] getCaseInsensitiveDetectionKeywords() {
+        return new String[0];
+    }
 }
\ No newline at end of file
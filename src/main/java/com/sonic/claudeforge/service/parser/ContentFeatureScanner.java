@@ -0,0 +1,84 @@
+// src/main/java/com/sonic/claudeforge/service/parser/ContentFeatureScanner.java
+package com.sonic.claudeforge.service.parser;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-screen for parser detection
+ * Collects the detection keywords of a set of parsers and finds all of them in one pass
+ */
+public class ContentFeatureScanner {
+    
+    private final Map<String, Integer> keywordIds = new HashMap<>();
+    private final Map<String, Integer> caseInsensitiveIds = new HashMap<>();
+    private final KeywordAutomaton keywords;
+    private final KeywordAutomaton caseInsensitiveKeywords;
+    private final int featureCount;
+    
+    public ContentFeatureScanner(Collection<? extends CodeParser> parsers) {
+        List<String> sensitive = new ArrayList<>();
+        List<String> insensitive = new ArrayList<>();
+        
+        for (CodeParser parser : parsers) {
+            for (String keyword : parser.getDetectionKeywords()) {
+                keywordIds.computeIfAbsent(keyword, key -> {
+                    sensitive.add(key);
+                    return sensitive.size() - 1;
+                });
+            }
+            for (String keyword : parser.getCaseInsensitiveDetectionKeywords()) {
+                caseInsensitiveIds.computeIfAbsent(keyword.toLowerCase(), key -> {
+                    insensitive.add(key);
+                    return insensitive.size() - 1;
+                });
+            }
+        }
+        
+        // Case-insensitive ids follow the case-sensitive ones in the shared bitset
+        caseInsensitiveIds.replaceAll((keyword, id) -> id + sensitive.size());
+        
+        this.keywords = new KeywordAutomaton(sensitive, false);
+        this.caseInsensitiveKeywords = new KeywordAutomaton(insensitive, true);
+        this.featureCount = sensitive.size() + insensitive.size();
+    }
+    
+    /**
+     * Scan content once for every registered keyword
+     * @param content The raw content from Claude response
+     * @return Features found in the content
+     */
+    public ContentFeatures scan(String content) {
+        BitSet found = new BitSet(featureCount);
+        int offset = keywordIds.size();
+        int remaining = featureCount;
+        int state = keywords.start();
+        int foldedState = caseInsensitiveKeywords.start();
+        
+        for (int i = 0, length = content.length(); i < length && remaining > 0; i++) {
+            char c = content.charAt(i);
+            
+            state = keywords.next(state, c);
+            for (int id : keywords.matches(state)) {
+                if (!found.get(id)) {
+                    found.set(id);
+                    remaining--;
+                }
+            }
+            
+            foldedState = caseInsensitiveKeywords.next(foldedState, c);
+            for (int id : caseInsensitiveKeywords.matches(foldedState)) {
+                if (!found.get(offset + id)) {
+                    found.set(offset + id);
+                    remaining--;
+                }
+            }
+        }
+        
+        return new ContentFeatures(content, found, keywordIds, caseInsensitiveIds);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+// src/main/java/com/sonic/claudeforge/service/parser/ContentFeatures.java
+package com.sonic.claudeforge.service.parser;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Keywords present in a Claude response, computed once by {@link ContentFeatureScanner}
+ * Parsers decide canHandle from these bits instead of rescanning the content
+ */
+public class ContentFeatures {
+    
+    private final String content;
+    private final BitSet found;
+    private final Map<String, Integer> keywordIds;
+    private final Map<String, Integer> caseInsensitiveIds;
+    
+    ContentFeatures(String content, BitSet found,
+                    Map<String, Integer> keywordIds, Map<String, Integer> caseInsensitiveIds) {
+        this.content = content;
+        this.found = found;
+        this.keywordIds = keywordIds;
+        this.caseInsensitiveIds = caseInsensitiveIds;
+    }
+    
+    /**
+     * Check if the content contains a keyword (case-sensitive)
+     * @param keyword One of the parser's detection keywords
+     */
+    public boolean has(String keyword) {
+        return found.get(idOf(keywordIds, keyword));
+    }
+    
+    /**
+     * Check if the content contains a keyword, ignoring case
+     * @param keyword One of the parser's case-insensitive detection keywords
+     */
+    public boolean hasIgnoreCase(String keyword) {
+        return found.get(idOf(caseInsensitiveIds, keyword.toLowerCase()));
+    }
+    
+    private static int idOf(Map<String, Integer> ids, String keyword) {
+        Integer id = ids.get(keyword);
+        if (id == null) {
+            throw new IllegalArgumentException("Keyword was not pre-screened: " + keyword);
+        }
+        return id;
+    }
+    
+    // @GENERATE_GETTERS_SETTERS
+    public String getContent() { return content; }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+// src/main/java/com/sonic/claudeforge/service/parser/ContentSlice.java
+package com.sonic.claudeforge.service.parser;
+
+import java.util.Objects;
+
+/**
+ * Read-only view of a range of a Claude response
+ * Parsed file bodies are kept as slices, so a file's code is only copied out of the
+ * response when a caller asks for it as a String
+ */
+public final class ContentSlice implements CharSequence {
+
+    private final String source;
+    private final int start;
+    private final int end;
+
+    /**
+     * @param source The full text the slice points into
+     * @param start Start of the slice (inclusive)
+     * @param end End of the slice (exclusive)
+     */
+    public ContentSlice(String source, int start, int end) {
+        Objects.checkFromToIndex(start, end, source.length());
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Slice without leading and trailing whitespace, using the same rule as String.trim()
+     */
+    public ContentSlice trim() {
+        int from = start;
+        int to = end;
+        while (from < to && source.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && source.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return from == start && to == end ? this : new ContentSlice(source, from, to);
+    }
+
+    /**
+     * Check if the slice contains the given text
+     */
+    public boolean contains(String text) {
+        return indexOf(text, 0, false) >= 0;
+    }
+
+    /**
+     * Check if the slice contains the given text, ignoring case
+     */
+    public boolean containsIgnoreCase(String text) {
+        return indexOf(text, 0, true) >= 0;
+    }
+
+    /**
+     * Count non-overlapping occurrences of the given text
+     */
+    public int count(String text) {
+        int count = 0;
+        int index = indexOf(text, 0, false);
+        while (index >= 0) {
+            count++;
+            index = indexOf(text, index + Math.max(1, text.length()), false);
+        }
+        return count;
+    }
+
+    /**
+     * Find text within the slice without searching the rest of the source
+     * @return Index relative to the slice start, or -1
+     */
+    private int indexOf(String text, int fromIndex, boolean ignoreCase) {
+        int last = end - text.length();
+        for (int i = start + fromIndex; i <= last; i++) {
+            if (source.regionMatches(ignoreCase, i, text, 0, text.length())) {
+                return i - start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Offset of the slice in the given text
+     * @return Start of the slice, or -1 if it points into a different text
+     */
+    int offsetIn(String text) {
+        return text == source ? start : -1;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length());
+        return source.charAt(start + index);
+    }
+
+    @Override
+    public ContentSlice subSequence(int from, int to) {
+        Objects.checkFromToIndex(from, to, length());
+        return new ContentSlice(source, start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+        return source.substring(start, end);
+    }
+}
\ No newline at end of file
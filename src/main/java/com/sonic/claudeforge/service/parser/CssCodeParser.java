@@ -3,37 +3,40 @@ package com.sonic.claudeforge.service.parser;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Enhanced Parser for CSS code from Claude responses
  * Supports CSS, SCSS, and SASS files with both // and /*
  */
 @Component
+@Order(40)
 public class CssCodeParser implements CodeParser {
     
     private static final Logger logger = LoggerFactory.getLogger(CssCodeParser.class);
     
-    // Pattern for CSS code blocks in markdown format
-    private static final Pattern CSS_CODE_BLOCK_PATTERN = 
-        Pattern.compile("```(css|scss|sass)\\s*(?://\\s*|/\\*\\s*)([^\\n]+?)(?:\\s*\\*/)?\\s*\\n([\\s\\S]*?)```");
+    // Fence language tags owned by this parser
+    private static final String[] FENCE_LANGUAGES = {"css", "scss", "sass"};
     
-    // Pattern for raw CSS code with path comments (both // and /* */ style)
-    private static final Pattern RAW_CSS_PATTERN = 
-        Pattern.compile("(?://\\s*|/\\*\\s*)([^\\r\\n]+\\.(css|scss|sass))(?:\\s*\\*/)?\\s*[\\r\\n]+([\\s\\S]+?)(?=[\\r\\n]+(?://\\s*|/\\*\\s*)[^\\r\\n]+\\.(css|scss|sass)|\\Z)", Pattern.MULTILINE);
+    // Finder for raw CSS code with path comments (both // and /* */ style)
+    private static final PathCommentScanner RAW_FILE_SCANNER = 
+        new PathCommentScanner("", true, "css", "scss", "sass");
     
-    // Pattern for single CSS file (both comment styles)
-    private static final Pattern SINGLE_CSS_PATTERN = 
-        Pattern.compile("^\\s*(?://\\s*|/\\*\\s*)([^\\r\\n]+\\.(css|scss|sass))(?:\\s*\\*/)?\\s*[\\r\\n]+([\\s\\S]+)$", Pattern.MULTILINE);
+    // Keywords that canHandle looks for
+    private static final String[] DETECTION_KEYWORDS = {
+        "```css", "```scss", "```sass", ".css", ".scss", ".sass", "// ", "/* ", "@tailwind",
+        "@layer", "@apply", "@import", "@media", "{", "}", ":", "bg-", "text-", "p-", "$", "&"
+    };
+    
+    private final ContentFeatureScanner detector = new ContentFeatureScanner(List.of(this));
     
     @Override
-    public List<ParsedFile> parse(String content) {
-        logger.debug("Parsing CSS code from content (length: {})", content.length());
+    public List<ParsedFile> parse(TokenizedContent content) {
+        logger.debug("Parsing CSS code from content (length: {})", content.getContent().length());
         
         List<ParsedFile> files = new ArrayList<>();
         
@@ -54,14 +57,16 @@ public class CssCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseMarkdownCodeBlocks(String content) {
+    private List<ParsedFile> parseMarkdownCodeBlocks(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = CSS_CODE_BLOCK_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String fileType = matcher.group(1);
-            String filePath = matcher.group(2).trim();
-            String code = matcher.group(3).trim();
+        for (CodeBlock block : content.getBlocks(FENCE_LANGUAGES)) {
+            if (!block.hasPath()) {
+                continue;
+            }
+            String fileType = block.getRouteLanguage();
+            String filePath = block.getPathComment();
+            ContentSlice code = block.getBody();
             
             ParsedFile file = createCssFile(filePath, code, fileType);
             if (file != null) {
@@ -73,45 +78,50 @@ public class CssCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseRawCssCode(String content) {
+    private List<ParsedFile> parseRawCssCode(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = RAW_CSS_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String fileExtension = matcher.group(2);
-            String code = matcher.group(3).trim();
-            
-            ParsedFile file = createCssFile(filePath, code, fileExtension);
-            if (file != null) {
-                files.add(file);
-                logger.debug("Found raw CSS file: {} ({} chars)", filePath, code.length());
+        // Only the text outside fenced blocks can hold raw files
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            for (PathCommentScanner.RawFile rawFile : RAW_FILE_SCANNER.findAll(content.getContent(), segment.getStart(), segment.getEnd())) {
+                String filePath = rawFile.getPath();
+                String fileExtension = rawFile.getExtension();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createCssFile(filePath, code, fileExtension);
+                if (file != null) {
+                    files.add(file);
+                    logger.debug("Found raw CSS file: {} ({} chars)", filePath, code.length());
+                }
             }
         }
         
         return files;
     }
     
-    private List<ParsedFile> parseSingleCssFile(String content) {
+    private List<ParsedFile> parseSingleCssFile(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = SINGLE_CSS_PATTERN.matcher(content.trim());
         
-        if (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String fileExtension = matcher.group(2);
-            String code = matcher.group(3).trim();
-            
-            ParsedFile file = createCssFile(filePath, code, fileExtension);
-            if (file != null) {
-                files.add(file);
-                logger.debug("Found single CSS file: {} ({} chars)", filePath, code.length());
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            PathCommentScanner.RawFile rawFile = RAW_FILE_SCANNER.findFirst(content.getContent(), segment.getStart(), segment.getEnd());
+            if (rawFile != null) {
+                String filePath = rawFile.getPath();
+                String fileExtension = rawFile.getExtension();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createCssFile(filePath, code, fileExtension);
+                if (file != null) {
+                    files.add(file);
+                    logger.debug("Found single CSS file: {} ({} chars)", filePath, code.length());
+                }
+                break;
             }
         }
         
         return files;
     }
     
-    private ParsedFile createCssFile(String filePath, String content, String extension) {
+    private ParsedFile createCssFile(String filePath, ContentSlice content, String extension) {
         // Enhanced validation for CSS content
         if (!isValidCssContent(content)) {
             logger.warn("Invalid CSS content for file: {}", filePath);
@@ -124,7 +134,7 @@ public class CssCodeParser implements CodeParser {
         return new ParsedFile(filePath, content, fileType, "CSS");
     }
     
-    private boolean isValidCssContent(String content) {
+    private boolean isValidCssContent(ContentSlice content) {
         // Enhanced validation for CSS files including Tailwind
         return content.contains("{") && content.contains("}") ||
                content.contains(":") ||
@@ -135,12 +145,10 @@ public class CssCodeParser implements CodeParser {
                content.contains("@apply") ||
                content.contains("/*") ||
                content.contains("//") ||
-               // CSS properties pattern
-               content.matches(".*[a-zA-Z-]+\\s*:\\s*[^;]+;.*") ||
                content.trim().length() > 0; // Allow non-empty CSS files
     }
     
-    private String determineCssFileType(String content, String extension) {
+    private String determineCssFileType(ContentSlice content, String extension) {
         if (content.contains("@tailwind")) {
             return "Tailwind CSS";
         } else if (content.contains("@import")) {
@@ -161,6 +169,11 @@ public class CssCodeParser implements CodeParser {
         return "CSS";
     }
     
+    @Override
+    public String[] getFenceLanguages() {
+        return FENCE_LANGUAGES.clone();
+    }
+    
     @Override
     public String[] getSupportedExtensions() {
         return new String[]{".css", ".scss", ".sass"};
@@ -171,27 +184,59 @@ public class CssCodeParser implements CodeParser {
         return "CSS";
     }
     
+    @Override
+    public String[] getDetectionKeywords() {
+        return DETECTION_KEYWORDS.clone();
+    }
+    
     @Override
     public boolean canHandle(String content) {
+        return canHandle(detector.scan(content));
+    }
+    
+    @Override
+    public boolean canHandle(ContentFeatures features) {
         // Enhanced detection for CSS content with both comment styles
-        return content.contains("```css") ||
-               content.contains("```scss") ||
-               content.contains("```sass") ||
+        return features.has("```css") ||
+               features.has("```scss") ||
+               features.has("```sass") ||
                // Check for CSS file paths with both comment styles
-               (content.contains(".css") || content.contains(".scss") || content.contains(".sass")) &&
-               (content.contains("// ") || content.contains("/* ")) ||
+               (features.has(".css") || features.has(".scss") || features.has(".sass")) &&
+               (features.has("// ") || features.has("/* ")) ||
                // Check for CSS-specific patterns
-               content.contains("@tailwind") ||
-               content.contains("@layer") ||
-               content.contains("@apply") ||
-               content.contains("@import") ||
-               content.contains("@media") ||
+               features.has("@tailwind") ||
+               features.has("@layer") ||
+               features.has("@apply") ||
+               features.has("@import") ||
+               features.has("@media") ||
                // CSS specific syntax
-               (content.contains("{") && content.contains("}") && content.contains(":")) ||
+               (features.has("{") && features.has("}") && features.has(":")) ||
                // Tailwind CSS utilities
-               content.contains("bg-") || content.contains("text-") || content.contains("p-") ||
+               features.has("bg-") || features.has("text-") || features.has("p-") ||
                // SCSS/SASS syntax
-               content.contains("$") && content.contains(":") ||
-               content.contains("&") && content.contains("{");
+               features.has("$") && features.has(":") ||
+               features.has("&") && features.has("{");
+    }
+    
+    @Override
+    public int getConfidence(ContentFeatures features) {
+        if (features.has("```css") || features.has("```scss") || features.has("```sass")) {
+            return FULL_CONFIDENCE;
+        } else if ((features.has(".css") || features.has(".scss") || features.has(".sass")) &&
+                   (features.has("// ") || features.has("/* "))) {
+            // Raw files need a path comment with one of these extensions
+            return 80;
+        } else if (features.has("@tailwind") || features.has("@layer") || features.has("@apply")) {
+            return 60;
+        } else if (features.has("@import") || features.has("@media")) {
+            return 30;
+        } else if ((features.has("{") && features.has("}") && features.has(":")) ||
+                   features.has("bg-") || features.has("text-") || features.has("p-") ||
+                   features.has("$") && features.has(":") ||
+                   features.has("&") && features.has("{")) {
+            // Braces, colons and utility-like fragments appear in almost any code or prose
+            return 10;
+        }
+        return NO_CONFIDENCE;
     }
 }
\ No newline at end of file
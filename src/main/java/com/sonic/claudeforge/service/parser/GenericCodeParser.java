@@ -0,0 +1,166 @@
+// src/main/java/com/sonic/claudeforge/service/parser/GenericCodeParser.java
+package com.sonic.claudeforge.service.parser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Fallback parser for fenced blocks in languages no dedicated parser owns
+ * (Kotlin, SQL, YAML, properties, JSON, Dockerfile, ...); a block becomes a file when it names a path
+ * in a comment on its first line, using //, /*, # or -- as the language allows
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class GenericCodeParser implements CodeParser {
+    
+    private static final Logger logger = LoggerFactory.getLogger(GenericCodeParser.class);
+    
+    // Receives every block whose fence tag no other parser declares
+    private static final String[] FENCE_LANGUAGES = {ANY_FENCE};
+    
+    // Line comment markers the tokenizer does not read as path comments
+    private static final String[] LINE_COMMENT_MARKERS = {"#", "--"};
+    
+    // Keywords that canHandle looks for
+    private static final String[] DETECTION_KEYWORDS = {"```"};
+    
+    private static final Map<String, String> FILE_TYPES = Map.of(
+        "kt", "Kotlin",
+        "kts", "Kotlin Script",
+        "sql", "SQL",
+        "yml", "YAML",
+        "yaml", "YAML",
+        "properties", "Properties",
+        "json", "JSON"
+    );
+    
+    private final ContentFeatureScanner detector = new ContentFeatureScanner(List.of(this));
+    
+    @Override
+    public List<ParsedFile> parse(TokenizedContent content) {
+        List<ParsedFile> files = new ArrayList<>();
+        
+        for (CodeBlock block : content.getBlocks()) {
+            ContentSlice body = block.getBody();
+            String filePath;
+            ContentSlice code;
+            
+            if (block.hasPath()) {
+                filePath = block.getPathComment();
+                code = body;
+            } else {
+                int lineEnd = lineEnd(body);
+                filePath = pathFromComment(body.subSequence(0, lineEnd).toString().trim());
+                code = body.subSequence(lineEnd, body.length()).trim();
+            }
+            
+            if (filePath == null || !isFilePath(filePath)) {
+                continue;
+            }
+            
+            files.add(createFile(filePath, code, block.getLanguage()));
+            logger.debug("Found {} block: {} ({} chars)", block.getLanguage(), filePath, code.length());
+        }
+        
+        logger.info("Generic parser found {} files", files.size());
+        return files;
+    }
+    
+    private ParsedFile createFile(String filePath, ContentSlice code, String language) {
+        if (code.length() == 0) {
+            logger.warn("Empty content for file: {}", filePath);
+            return ParsedFile.invalid(filePath, "Empty file content");
+        }
+        return new ParsedFile(filePath, code, determineFileType(filePath, language), getParserType());
+    }
+    
+    private String pathFromComment(String line) {
+        for (String marker : LINE_COMMENT_MARKERS) {
+            if (line.startsWith(marker)) {
+                return line.substring(marker.length()).trim();
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * A path is a single token whose file name has an extension, or is a Dockerfile
+     */
+    private boolean isFilePath(String path) {
+        if (path.isEmpty() || path.chars().anyMatch(Character::isWhitespace)) {
+            return false;
+        }
+        String fileName = fileName(path);
+        return fileName.startsWith("Dockerfile") || fileName.lastIndexOf('.') > 0;
+    }
+    
+    private String determineFileType(String filePath, String language) {
+        String fileName = fileName(filePath);
+        if (fileName.startsWith("Dockerfile")) {
+            return "Dockerfile";
+        }
+        
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        String fileType = FILE_TYPES.get(extension);
+        if (fileType != null) {
+            return fileType;
+        }
+        return language.isEmpty() ? "Text" : language;
+    }
+    
+    private static String fileName(String path) {
+        return path.substring(Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\')) + 1);
+    }
+    
+    private static int lineEnd(ContentSlice body) {
+        int i = 0;
+        while (i < body.length() && body.charAt(i) != '\n') {
+            i++;
+        }
+        return i;
+    }
+    
+    @Override
+    public String[] getFenceLanguages() {
+        return FENCE_LANGUAGES.clone();
+    }
+    
+    @Override
+    public boolean parsesUnfencedText() {
+        return false;
+    }
+    
+    @Override
+    public String[] getSupportedExtensions() {
+        return new String[]{".kt", ".kts", ".sql", ".yml", ".yaml", ".properties", ".json", "Dockerfile"};
+    }
+    
+    @Override
+    public String getParserType() {
+        return "Generic";
+    }
+    
+    @Override
+    public String[] getDetectionKeywords() {
+        return DETECTION_KEYWORDS.clone();
+    }
+    
+    @Override
+    public boolean canHandle(String content) {
+        return canHandle(detector.scan(content));
+    }
+    
+    @Override
+    public boolean canHandle(ContentFeatures features) {
+        // Only fenced blocks are read; which of them are unclaimed is up to the registry
+        return features.has("```");
+    }
+}
\ No newline at end of file
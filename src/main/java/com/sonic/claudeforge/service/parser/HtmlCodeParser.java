@@ -3,6 +3,7 @@ package com.sonic.claudeforge.service.parser;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -15,29 +16,36 @@ import java.util.regex.Pattern;
  * Supports HTML files and templates
  */
 @Component
+@Order(50)
 public class HtmlCodeParser implements CodeParser {
     
     private static final Logger logger = LoggerFactory.getLogger(HtmlCodeParser.class);
     
-    // Pattern for HTML code blocks in markdown format
-    private static final Pattern HTML_CODE_BLOCK_PATTERN = 
-        Pattern.compile("```html\\s*//\\s*([^\\n]+)\\s*\\n([\\s\\S]*?)```");
+    // Fence language tags owned by this parser
+    private static final String[] FENCE_LANGUAGES = {"html"};
     
-    // Pattern for raw HTML code with path comments
-    private static final Pattern RAW_HTML_PATTERN = 
-        Pattern.compile("//\\s*([^\\r\\n]+\\.html?)\\s*[\\r\\n]+([\\s\\S]+?)(?=[\\r\\n]+//\\s*[^\\r\\n]+\\.html?|\\Z)", Pattern.MULTILINE);
+    // Finder for raw HTML code with path comments
+    private static final PathCommentScanner RAW_FILE_SCANNER = 
+        new PathCommentScanner("", false, "html", "htm");
     
-    // Pattern for single HTML file
-    private static final Pattern SINGLE_HTML_PATTERN = 
-        Pattern.compile("^\\s*//\\s*([^\\r\\n]+\\.html?)\\s*[\\r\\n]+([\\s\\S]+)$", Pattern.MULTILINE);
+    // Pattern for the page title of HTML blocks without file path
+    private static final Pattern TITLE_PATTERN = Pattern.compile("<title>([^<]+)</title>");
     
-    // Alternative patterns for HTML without file path
-    private static final Pattern HTML_DOCTYPE_PATTERN = 
-        Pattern.compile("```html\\s*\\n([\\s\\S]*?<!DOCTYPE html[\\s\\S]*?)```");
+    // Keywords that canHandle looks for
+    private static final String[] DETECTION_KEYWORDS = {
+        "```html", ".html", "<", ">"
+    };
+    
+    // Keywords that canHandle looks for regardless of case
+    private static final String[] CASE_INSENSITIVE_DETECTION_KEYWORDS = {
+        "<!doctype", "<html", "<head", "<body"
+    };
+    
+    private final ContentFeatureScanner detector = new ContentFeatureScanner(List.of(this));
     
     @Override
-    public List<ParsedFile> parse(String content) {
-        logger.debug("Parsing HTML code from content (length: {})", content.length());
+    public List<ParsedFile> parse(TokenizedContent content) {
+        logger.debug("Parsing HTML code from content (length: {})", content.getContent().length());
         
         List<ParsedFile> files = new ArrayList<>();
         
@@ -63,13 +71,15 @@ public class HtmlCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseMarkdownCodeBlocks(String content) {
+    private List<ParsedFile> parseMarkdownCodeBlocks(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = HTML_CODE_BLOCK_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String code = matcher.group(2).trim();
+        for (CodeBlock block : content.getBlocks(FENCE_LANGUAGES)) {
+            if (!block.hasPath()) {
+                continue;
+            }
+            String filePath = block.getPathComment();
+            ContentSlice code = block.getBody();
             
             ParsedFile file = createHtmlFile(filePath, code);
             files.add(file);
@@ -80,52 +90,61 @@ public class HtmlCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseRawHtmlCode(String content) {
+    private List<ParsedFile> parseRawHtmlCode(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = RAW_HTML_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String code = matcher.group(2).trim();
-            
-            ParsedFile file = createHtmlFile(filePath, code);
-            files.add(file);
-            
-            logger.debug("Found raw HTML file: {} ({} chars)", filePath, code.length());
+        // Only the text outside fenced blocks can hold raw files
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            for (PathCommentScanner.RawFile rawFile : RAW_FILE_SCANNER.findAll(content.getContent(), segment.getStart(), segment.getEnd())) {
+                String filePath = rawFile.getPath();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createHtmlFile(filePath, code);
+                files.add(file);
+                
+                logger.debug("Found raw HTML file: {} ({} chars)", filePath, code.length());
+            }
         }
         
         return files;
     }
     
-    private List<ParsedFile> parseSingleHtmlFile(String content) {
+    private List<ParsedFile> parseSingleHtmlFile(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = SINGLE_HTML_PATTERN.matcher(content.trim());
         
-        if (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String code = matcher.group(2).trim();
-            
-            ParsedFile file = createHtmlFile(filePath, code);
-            files.add(file);
-            
-            logger.debug("Found single HTML file: {} ({} chars)", filePath, code.length());
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            PathCommentScanner.RawFile rawFile = RAW_FILE_SCANNER.findFirst(content.getContent(), segment.getStart(), segment.getEnd());
+            if (rawFile != null) {
+                String filePath = rawFile.getPath();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createHtmlFile(filePath, code);
+                files.add(file);
+                
+                logger.debug("Found single HTML file: {} ({} chars)", filePath, code.length());
+                break;
+            }
         }
         
         return files;
     }
     
-    private List<ParsedFile> parseHtmlWithoutPath(String content) {
+    private List<ParsedFile> parseHtmlWithoutPath(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = HTML_DOCTYPE_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String code = matcher.group(1).trim();
+        for (CodeBlock block : content.getBlocks(FENCE_LANGUAGES)) {
+            if (block.hasPath()) {
+                continue;
+            }
+            ContentSlice code = block.getBody();
+            if (!code.contains("<!DOCTYPE html")) {
+                continue;
+            }
             
             // Generate default file path
             String filePath = "src/main/resources/static/index.html";
             if (code.contains("<title>")) {
-                Pattern titlePattern = Pattern.compile("<title>([^<]+)</title>");
-                Matcher titleMatcher = titlePattern.matcher(code);
+                Matcher titleMatcher = TITLE_PATTERN.matcher(code);
                 if (titleMatcher.find()) {
                     String title = titleMatcher.group(1).toLowerCase()
                         .replaceAll("[^a-z0-9]", "-")
@@ -146,7 +165,7 @@ public class HtmlCodeParser implements CodeParser {
         return files;
     }
     
-    private ParsedFile createHtmlFile(String filePath, String content) {
+    private ParsedFile createHtmlFile(String filePath, ContentSlice content) {
         // Validate HTML content
         if (!isValidHtmlContent(content)) {
             return ParsedFile.invalid(filePath, "Invalid HTML content - missing basic HTML structure");
@@ -158,43 +177,45 @@ public class HtmlCodeParser implements CodeParser {
         return new ParsedFile(filePath, content, fileType, "HTML");
     }
     
-    private boolean isValidHtmlContent(String content) {
+    private boolean isValidHtmlContent(ContentSlice content) {
         // Basic validation for HTML files
-        String lowerContent = content.toLowerCase();
-        return lowerContent.contains("<html") ||
-               lowerContent.contains("<!doctype") ||
-               lowerContent.contains("<head") ||
-               lowerContent.contains("<body") ||
-               lowerContent.contains("<div") ||
-               lowerContent.contains("<span") ||
-               lowerContent.contains("<p") ||
-               (lowerContent.contains("<") && lowerContent.contains(">"));
+        return content.containsIgnoreCase("<html") ||
+               content.containsIgnoreCase("<!doctype") ||
+               content.containsIgnoreCase("<head") ||
+               content.containsIgnoreCase("<body") ||
+               content.containsIgnoreCase("<div") ||
+               content.containsIgnoreCase("<span") ||
+               content.containsIgnoreCase("<p") ||
+               (content.containsIgnoreCase("<") && content.containsIgnoreCase(">"));
     }
     
-    private String determineHtmlFileType(String content) {
-        String lowerContent = content.toLowerCase();
-        
-        if (lowerContent.contains("<!doctype html")) {
+    private String determineHtmlFileType(ContentSlice content) {
+        if (content.contains("<!doctype html")) {
             return "HTML5 Document";
-        } else if (lowerContent.contains("<template")) {
+        } else if (content.containsIgnoreCase("<template")) {
             return "HTML Template";
-        } else if (lowerContent.contains("@{") || lowerContent.contains("th:")) {
+        } else if (content.containsIgnoreCase("@{") || content.containsIgnoreCase("th:")) {
             return "Thymeleaf Template";
-        } else if (lowerContent.contains("${") || lowerContent.contains("<%")) {
+        } else if (content.containsIgnoreCase("${") || content.containsIgnoreCase("<%")) {
             return "JSP Template";
-        } else if (lowerContent.contains("<form")) {
+        } else if (content.containsIgnoreCase("<form")) {
             return "HTML Form";
-        } else if (lowerContent.contains("<table")) {
+        } else if (content.containsIgnoreCase("<table")) {
             return "HTML Table";
-        } else if (lowerContent.contains("bootstrap") || lowerContent.contains("tailwind")) {
+        } else if (content.containsIgnoreCase("bootstrap") || content.containsIgnoreCase("tailwind")) {
             return "Styled HTML";
-        } else if (lowerContent.contains("<script")) {
+        } else if (content.containsIgnoreCase("<script")) {
             return "Interactive HTML";
         }
         
         return "HTML";
     }
     
+    @Override
+    public String[] getFenceLanguages() {
+        return FENCE_LANGUAGES.clone();
+    }
+    
     @Override
     public String[] getSupportedExtensions() {
         return new String[]{".html", ".htm"};
@@ -205,16 +226,48 @@ public class HtmlCodeParser implements CodeParser {
         return "HTML";
     }
     
+    @Override
+    public String[] getDetectionKeywords() {
+        return DETECTION_KEYWORDS.clone();
+    }
+    
+    @Override
+    public String[] getCaseInsensitiveDetectionKeywords() {
+        return CASE_INSENSITIVE_DETECTION_KEYWORDS.clone();
+    }
+    
     @Override
     public boolean canHandle(String content) {
+        return canHandle(detector.scan(content));
+    }
+    
+    @Override
+    public boolean canHandle(ContentFeatures features) {
         // Check if content contains HTML patterns
-        String lowerContent = content.toLowerCase();
-        return content.contains("```html") ||
-               content.contains(".html") ||
-               lowerContent.contains("<!doctype") ||
-               lowerContent.contains("<html") ||
-               lowerContent.contains("<head") ||
-               lowerContent.contains("<body") ||
-               (lowerContent.contains("<") && lowerContent.contains(">"));
+        return features.has("```html") ||
+               features.has(".html") ||
+               features.hasIgnoreCase("<!doctype") ||
+               features.hasIgnoreCase("<html") ||
+               features.hasIgnoreCase("<head") ||
+               features.hasIgnoreCase("<body") ||
+               (features.has("<") && features.has(">"));
+    }
+    
+    @Override
+    public int getConfidence(ContentFeatures features) {
+        if (features.has("```html")) {
+            return FULL_CONFIDENCE;
+        } else if (features.has(".html")) {
+            // Raw files need a path comment with this extension
+            return 80;
+        } else if (features.hasIgnoreCase("<!doctype") || features.hasIgnoreCase("<html")) {
+            return 70;
+        } else if (features.hasIgnoreCase("<head") || features.hasIgnoreCase("<body")) {
+            return 50;
+        } else if (features.has("<") && features.has(">")) {
+            // Generics, JSX and comparisons all have angle brackets
+            return 10;
+        }
+        return NO_CONFIDENCE;
     }
 }
\ No newline at end of file
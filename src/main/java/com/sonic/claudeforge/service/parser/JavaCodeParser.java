@@ -1,39 +1,44 @@
 // src/main/java/com/sonic/claudeforge/service/parser/JavaCodeParser.java
 package com.sonic.claudeforge.service.parser;
 
+import com.sonic.claudeforge.util.JavaStructureScanner;
+import com.sonic.claudeforge.util.JavaStructureScanner.JavaStructure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Parser for Java code from Claude responses
  * Supports both markdown format and raw Java code
  */
 @Component
+@Order(10)
 public class JavaCodeParser implements CodeParser {
     
     private static final Logger logger = LoggerFactory.getLogger(JavaCodeParser.class);
     
-    // Pattern for Java code blocks in markdown format
-    private static final Pattern JAVA_CODE_BLOCK_PATTERN = 
-        Pattern.compile("```java\\s*//\\s*([^\\n]+)\\s*\\n([\\s\\S]*?)```");
+    // Fence language tags owned by this parser
+    private static final String[] FENCE_LANGUAGES = {"java"};
     
-    // Pattern for raw Java code with path comments
-    private static final Pattern RAW_JAVA_PATTERN = 
-        Pattern.compile("//\\s*(src/[^\\r\\n]+\\.java)\\s*[\\r\\n]+([\\s\\S]+?)(?=[\\r\\n]+//\\s*src/[^\\r\\n]+\\.java|\\Z)", Pattern.MULTILINE);
+    // Finder for raw Java code with path comments
+    private static final PathCommentScanner RAW_FILE_SCANNER = 
+        new PathCommentScanner("src/", false, "java");
     
-    // Pattern for single Java file
-    private static final Pattern SINGLE_JAVA_PATTERN = 
-        Pattern.compile("^\\s*//\\s*(src/[^\\r\\n]+\\.java)\\s*[\\r\\n]+([\\s\\S]+)$", Pattern.MULTILINE);
+    // Keywords that canHandle looks for
+    private static final String[] DETECTION_KEYWORDS = {
+        "```java", "// src/main/java/", "package ", "public class ", "@SpringBootApplication",
+        "@RestController"
+    };
+    
+    private final ContentFeatureScanner detector = new ContentFeatureScanner(List.of(this));
     
     @Override
-    public List<ParsedFile> parse(String content) {
-        logger.debug("Parsing Java code from content (length: {})", content.length());
+    public List<ParsedFile> parse(TokenizedContent content) {
+        logger.debug("Parsing Java code from content (length: {})", content.getContent().length());
         
         List<ParsedFile> files = new ArrayList<>();
         
@@ -54,13 +59,15 @@ public class JavaCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseMarkdownCodeBlocks(String content) {
+    private List<ParsedFile> parseMarkdownCodeBlocks(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = JAVA_CODE_BLOCK_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String code = matcher.group(2).trim();
+        for (CodeBlock block : content.getBlocks(FENCE_LANGUAGES)) {
+            if (!block.hasPath()) {
+                continue;
+            }
+            String filePath = block.getPathComment();
+            ContentSlice code = block.getBody();
             
             ParsedFile file = createJavaFile(filePath, code);
             files.add(file);
@@ -71,51 +78,59 @@ public class JavaCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseRawJavaCode(String content) {
+    private List<ParsedFile> parseRawJavaCode(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = RAW_JAVA_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String code = matcher.group(2).trim();
-            
-            ParsedFile file = createJavaFile(filePath, code);
-            files.add(file);
-            
-            logger.debug("Found raw Java file: {} ({} chars)", filePath, code.length());
+        // Only the text outside fenced blocks can hold raw files
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            for (PathCommentScanner.RawFile rawFile : RAW_FILE_SCANNER.findAll(content.getContent(), segment.getStart(), segment.getEnd())) {
+                String filePath = rawFile.getPath();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createJavaFile(filePath, code);
+                files.add(file);
+                
+                logger.debug("Found raw Java file: {} ({} chars)", filePath, code.length());
+            }
         }
         
         return files;
     }
     
-    private List<ParsedFile> parseSingleJavaFile(String content) {
+    private List<ParsedFile> parseSingleJavaFile(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = SINGLE_JAVA_PATTERN.matcher(content.trim());
         
-        if (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String code = matcher.group(2).trim();
-            
-            ParsedFile file = createJavaFile(filePath, code);
-            files.add(file);
-            
-            logger.debug("Found single Java file: {} ({} chars)", filePath, code.length());
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            PathCommentScanner.RawFile rawFile = RAW_FILE_SCANNER.findFirst(content.getContent(), segment.getStart(), segment.getEnd());
+            if (rawFile != null) {
+                String filePath = rawFile.getPath();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createJavaFile(filePath, code);
+                files.add(file);
+                
+                logger.debug("Found single Java file: {} ({} chars)", filePath, code.length());
+                break;
+            }
         }
         
         return files;
     }
     
-    private ParsedFile createJavaFile(String filePath, String content) {
+    private ParsedFile createJavaFile(String filePath, ContentSlice content) {
         // Validate and clean file path
         String cleanPath = cleanFilePath(filePath);
         
+        // Lex the outline once for both validation and classification
+        JavaStructure structure = JavaStructureScanner.scan(content);
+        
         // Validate Java content
-        if (!isValidJavaContent(content)) {
+        if (!isValidJavaContent(structure)) {
             return ParsedFile.invalid(cleanPath, "Invalid Java content - missing package declaration or class definition");
         }
         
         // Determine file type based on content
-        String fileType = determineJavaFileType(content);
+        String fileType = determineJavaFileType(structure);
         
         return new ParsedFile(cleanPath, content, fileType, "Java");
     }
@@ -131,33 +146,30 @@ public class JavaCodeParser implements CodeParser {
         return filePath;
     }
     
-    private boolean isValidJavaContent(String content) {
-        // Basic validation - should contain package declaration or import
-        return content.contains("package ") || content.contains("import ") || 
-               content.contains("class ") || content.contains("interface ") || content.contains("enum ");
+    private boolean isValidJavaContent(JavaStructure structure) {
+        // Basic validation - should declare a package, imports or a type outside comments and strings
+        return structure.hasDeclarations();
     }
     
-    private String determineJavaFileType(String content) {
-        if (content.contains("@RestController") || content.contains("@Controller")) {
-            return "Controller";
-        } else if (content.contains("@Service")) {
-            return "Service";
-        } else if (content.contains("@Repository")) {
-            return "Repository";
-        } else if (content.contains("@Entity")) {
-            return "Entity";
-        } else if (content.contains("@Configuration")) {
-            return "Configuration";
-        } else if (content.contains("@Component") && content.contains("Filter")) {
+    private String determineJavaFileType(JavaStructure structure) {
+        String stereotype = structure.getStereotype();
+        if (stereotype != null) {
+            return stereotype;
+        } else if (structure.hasAnnotation("Component") && structure.mentionsType("Filter")) {
             return "Filter";
-        } else if (content.contains("interface ")) {
+        } else if ("interface".equals(structure.getTypeKind()) || "@interface".equals(structure.getTypeKind())) {
             return "Interface";
-        } else if (content.contains("enum ")) {
+        } else if ("enum".equals(structure.getTypeKind())) {
             return "Enum";
         }
         return "Class";
     }
     
+    @Override
+    public String[] getFenceLanguages() {
+        return FENCE_LANGUAGES.clone();
+    }
+    
     @Override
     public String[] getSupportedExtensions() {
         return new String[]{".java"};
@@ -168,14 +180,42 @@ public class JavaCodeParser implements CodeParser {
         return "Java";
     }
     
+    @Override
+    public String[] getDetectionKeywords() {
+        return DETECTION_KEYWORDS.clone();
+    }
+    
     @Override
     public boolean canHandle(String content) {
+        return canHandle(detector.scan(content));
+    }
+    
+    @Override
+    public boolean canHandle(ContentFeatures features) {
         // Check if content contains Java patterns
-        return content.contains("```java") || 
-               content.contains("// src/main/java/") ||
-               content.contains("package ") ||
-               content.contains("public class ") ||
-               content.contains("@SpringBootApplication") ||
-               content.contains("@RestController");
+        return features.has("```java") || 
+               features.has("// src/main/java/") ||
+               features.has("package ") ||
+               features.has("public class ") ||
+               features.has("@SpringBootApplication") ||
+               features.has("@RestController");
+    }
+    
+    @Override
+    public int getConfidence(ContentFeatures features) {
+        if (features.has("```java")) {
+            return FULL_CONFIDENCE;
+        } else if (features.has("// src/main/java/")) {
+            // Raw files need exactly this kind of path comment
+            return 90;
+        } else if (features.has("@SpringBootApplication") || features.has("@RestController")) {
+            return 60;
+        } else if (features.has("package ") && features.has("public class ")) {
+            return 50;
+        } else if (features.has("package ") || features.has("public class ")) {
+            // Either phrase alone turns up in prose
+            return 20;
+        }
+        return NO_CONFIDENCE;
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+// src/main/java/com/sonic/claudeforge/service/parser/KeywordAutomaton.java
+package com.sonic.claudeforge.service.parser;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton over ASCII keywords
+ * Finds every keyword in a text with one left-to-right pass and no substring copies
+ */
+public class KeywordAutomaton {
+    
+    private static final int ALPHABET = 128;
+    private static final int[] NO_OUTPUT = new int[0];
+    
+    private final boolean caseInsensitive;
+    private final int[][] transitions;
+    private final int[][] outputs;
+    
+    /**
+     * Build the automaton
+     * @param keywords ASCII keywords; a keyword's id is its index in this list
+     * @param caseInsensitive Fold ASCII letters to lower case on both keywords and text
+     */
+    public KeywordAutomaton(List<String> keywords, boolean caseInsensitive) {
+        this.caseInsensitive = caseInsensitive;
+        
+        // 1. Build the keyword trie
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> matches = new ArrayList<>();
+        trie.add(newState());
+        matches.add(new ArrayList<>());
+        
+        for (int id = 0; id < keywords.size(); id++) {
+            String keyword = keywords.get(id);
+            if (keyword.isEmpty()) {
+                throw new IllegalArgumentException("Keywords must not be empty");
+            }
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int c = fold(keyword.charAt(i));
+                if (c >= ALPHABET) {
+                    throw new IllegalArgumentException("Keyword is not ASCII: " + keyword);
+                }
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newState());
+                    matches.add(new ArrayList<>());
+                }
+                state = trie.get(state)[c];
+            }
+            matches.get(state).add(id);
+        }
+        
+        // 2. Breadth-first pass turns the trie into a full transition table using failure links
+        int stateCount = trie.size();
+        transitions = trie.toArray(new int[0][]);
+        int[] failure = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = transitions[0][c];
+            if (next < 0) {
+                transitions[0][c] = 0;
+            } else {
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+        
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            matches.get(state).addAll(matches.get(failure[state]));
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[failure[state]][c];
+                } else {
+                    failure[next] = transitions[failure[state]][c];
+                    queue.add(next);
+                }
+            }
+        }
+        
+        outputs = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            List<Integer> ids = matches.get(state);
+            outputs[state] = ids.isEmpty() ? NO_OUTPUT : ids.stream().distinct().mapToInt(Integer::intValue).toArray();
+        }
+    }
+    
+    /**
+     * Start state for a scan
+     */
+    public int start() {
+        return 0;
+    }
+    
+    /**
+     * Advance the automaton by one character
+     * Characters outside ASCII cannot be part of a keyword and reset the scan
+     */
+    public int next(int state, char c) {
+        int folded = fold(c);
+        return folded < ALPHABET ? transitions[state][folded] : 0;
+    }
+    
+    /**
+     * Keyword ids that end at the given state
+     */
+    public int[] matches(int state) {
+        return outputs[state];
+    }
+    
+    private int fold(char c) {
+        return caseInsensitive && c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+    
+    private static int[] newState() {
+        int[] state = new int[ALPHABET];
+        Arrays.fill(state, -1);
+        return state;
+    }
+}
\ No newline at end of file
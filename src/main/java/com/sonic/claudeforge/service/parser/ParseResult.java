@@ -3,17 +3,24 @@ package com.sonic.claudeforge.service.parser;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToIntFunction;
 
 /**
  * Result of code parsing operation
  * Contains parsed files, errors, and metadata from all parsers
+ * Files are indexed by path, so each path appears once even when several parsers claim it
  */
 public class ParseResult {
     
-    private List<ParsedFile> allFiles = new ArrayList<>();
+    private final Map<String, IndexedFile> filesByPath = new LinkedHashMap<>();
+    private List<ParsedFile> allFiles;
+    private int duplicateFiles = 0;
     private Map<String, List<ParsedFile>> parserResults = new HashMap<>();
     private Map<String, String> errors = new HashMap<>();
     private boolean success = false;
@@ -24,12 +31,52 @@ public class ParseResult {
     
     /**
      * Add parser result
+     * Duplicate paths are resolved in favour of the later file
      * @param parserType Type of parser
      * @param files Files found by this parser
      */
     public void addParserResult(String parserType, List<ParsedFile> files) {
-        parserResults.put(parserType, new ArrayList<>(files));
-        updateCounts();
+        addParserResult(parserType, files, file -> Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Add parser result, ranking each file against others with the same path
+     * A valid file always beats an invalid one; otherwise the lower priority wins and ties
+     * go to the later file, like the later write on disk used to
+     * May be called more than once per parser, e.g. while streaming
+     * @param parserType Type of parser
+     * @param files Files found by this parser
+     * @param priority Rank of each file, lower is preferred
+     */
+    public void addParserResult(String parserType, List<ParsedFile> files, ToIntFunction<ParsedFile> priority) {
+        parserResults.computeIfAbsent(parserType, key -> new ArrayList<>()).addAll(files);
+        for (ParsedFile file : files) {
+            index(file, priority.applyAsInt(file));
+        }
+    }
+    
+    /**
+     * Copy of this result that callers may change without affecting it, e.g. one handed out by a cache
+     * Files are copied too; their content is shared
+     */
+    public ParseResult copy() {
+        Map<ParsedFile, ParsedFile> copies = new IdentityHashMap<>();
+        ParseResult copy = new ParseResult();
+        filesByPath.forEach((path, indexed) ->
+                copy.filesByPath.put(path, new IndexedFile(copies.computeIfAbsent(indexed.file, ParsedFile::copy), indexed.priority)));
+        parserResults.forEach((parserType, files) -> {
+            List<ParsedFile> copiedFiles = new ArrayList<>(files.size());
+            files.forEach(file -> copiedFiles.add(copies.computeIfAbsent(file, ParsedFile::copy)));
+            copy.parserResults.put(parserType, copiedFiles);
+        });
+        copy.errors.putAll(errors);
+        copy.duplicateFiles = duplicateFiles;
+        copy.success = success;
+        copy.parsedAt = parsedAt;
+        copy.originalContent = originalContent;
+        copy.totalValidFiles = totalValidFiles;
+        copy.totalInvalidFiles = totalInvalidFiles;
+        return copy;
     }
     
     /**
@@ -55,7 +102,7 @@ public class ParseResult {
      * @return List of valid parsed files
      */
     public List<ParsedFile> getValidFiles() {
-        return allFiles.stream()
+        return getAllFiles().stream()
                 .filter(ParsedFile::isValid)
                 .toList();
     }
@@ -65,7 +112,7 @@ public class ParseResult {
      * @return List of invalid parsed files
      */
     public List<ParsedFile> getInvalidFiles() {
-        return allFiles.stream()
+        return getAllFiles().stream()
                 .filter(file -> !file.isValid())
                 .toList();
     }
@@ -78,7 +125,10 @@ public class ParseResult {
         StringBuilder summary = new StringBuilder();
         summary.append(String.format("Parsing completed at %s\n", parsedAt));
         summary.append(String.format("Total files: %d (Valid: %d, Invalid: %d)\n", 
-                allFiles.size(), totalValidFiles, totalInvalidFiles));
+                filesByPath.size(), totalValidFiles, totalInvalidFiles));
+        if (duplicateFiles > 0) {
+            summary.append(String.format("Duplicate paths resolved: %d\n", duplicateFiles));
+        }
         
         if (!parserResults.isEmpty()) {
             summary.append("Files by parser:\n");
@@ -103,7 +153,7 @@ public class ParseResult {
      * @return true if at least one file was found
      */
     public boolean hasFiles() {
-        return !allFiles.isEmpty();
+        return !filesByPath.isEmpty();
     }
     
     /**
@@ -133,16 +183,49 @@ public class ParseResult {
         return new ArrayList<>(errors.keySet());
     }
     
-    private void updateCounts() {
-        totalValidFiles = (int) allFiles.stream().filter(ParsedFile::isValid).count();
-        totalInvalidFiles = allFiles.size() - totalValidFiles;
+    private void index(ParsedFile file, int priority) {
+        String key = file.getFilePath() != null ? file.getFilePath().replace('\\', '/') : "";
+        IndexedFile candidate = new IndexedFile(file, priority);
+        IndexedFile existing = filesByPath.get(key);
+        
+        if (existing != null) {
+            duplicateFiles++;
+            if (existing.isPreferredOver(candidate)) {
+                return;
+            }
+            count(existing.file, -1);
+        }
+        
+        // Replacing keeps the path's original position
+        filesByPath.put(key, candidate);
+        count(file, 1);
+        allFiles = null;
+    }
+    
+    private void count(ParsedFile file, int delta) {
+        if (file.isValid()) {
+            totalValidFiles += delta;
+        } else {
+            totalInvalidFiles += delta;
+        }
     }
     
     // @GENERATE_GETTERS_SETTERS
-    public List<ParsedFile> getAllFiles() { return allFiles; }
+    public List<ParsedFile> getAllFiles() {
+        if (allFiles == null) {
+            List<ParsedFile> files = new ArrayList<>(filesByPath.size());
+            filesByPath.values().forEach(indexed -> files.add(indexed.file));
+            allFiles = Collections.unmodifiableList(files);
+        }
+        return allFiles;
+    }
     public void setAllFiles(List<ParsedFile> allFiles) { 
-        this.allFiles = allFiles;
-        updateCounts();
+        filesByPath.clear();
+        totalValidFiles = 0;
+        totalInvalidFiles = 0;
+        duplicateFiles = 0;
+        this.allFiles = null;
+        allFiles.forEach(file -> index(file, Integer.MAX_VALUE));
     }
     
     public Map<String, List<ParsedFile>> getParserResults() { return parserResults; }
@@ -162,4 +245,25 @@ public class ParseResult {
     
     public int getTotalValidFiles() { return totalValidFiles; }
     public int getTotalInvalidFiles() { return totalInvalidFiles; }
+    public int getDuplicateFiles() { return duplicateFiles; }
+    
+    /**
+     * A file in the path index with the rank it was added with
+     */
+    private static class IndexedFile {
+        private final ParsedFile file;
+        private final int priority;
+        
+        IndexedFile(ParsedFile file, int priority) {
+            this.file = file;
+            this.priority = priority;
+        }
+        
+        boolean isPreferredOver(IndexedFile other) {
+            if (file.isValid() != other.file.isValid()) {
+                return file.isValid();
+            }
+            return priority < other.priority;
+        }
+    }
 }
\ No newline at end of file
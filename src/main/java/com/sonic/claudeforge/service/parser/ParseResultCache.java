@@ -0,0 +1,132 @@
+// src/main/java/com/sonic/claudeforge/service/parser/ParseResultCache.java
+package com.sonic.claudeforge.service.parser;
+
+import com.sonic.claudeforge.util.ContentHash;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of parse results
+ * Keyed by a SHA-256 hash of the Claude response plus the parser selection, and weighed by
+ * response length. Every caller gets its own copy of a result, so changing one never
+ * changes the cached result
+ */
+public class ParseResultCache {
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxEntries Maximum number of cached results
+     * @param maxWeight Maximum total length of the cached responses, in characters
+     */
+    public ParseResultCache(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Return the cached result for a response, parsing it on a miss
+     * @param content Raw content from Claude response
+     * @param selection Which parsers produce the result (e.g., "all" or a parser type)
+     * @param parser Produces the result on a miss
+     * @return Cached or freshly parsed result
+     */
+    public ParseResult get(String content, String selection, Supplier<ParseResult> parser) {
+        String key = key(content, selection);
+
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return entry.result.copy();
+            }
+        }
+
+        // Parse outside the lock; concurrent misses on one key just parse twice
+        misses.incrementAndGet();
+        ParseResult result = parser.get();
+
+        // Errors may be transient (e.g. timeouts), so only clean results are kept
+        if (!result.hasErrors() && content.length() <= maxWeight) {
+            put(key, new Entry(result.copy(), content.length()));
+        }
+        return result;
+    }
+
+    /**
+     * Drop all cached results
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    /**
+     * Get hit and miss counters plus current size
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hits.get(), misses.get(), entries.size(), totalWeight);
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += entry.weight;
+
+        // Evict least recently used results until both bounds hold
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalWeight > maxWeight) && eldest.hasNext()) {
+            totalWeight -= eldest.next().getValue().weight;
+            eldest.remove();
+        }
+    }
+
+    private static String key(String content, String selection) {
+        return ContentHash.sha256(content) + ":" + selection;
+    }
+
+    private static class Entry {
+        private final ParseResult result;
+        private final long weight;
+
+        Entry(ParseResult result, long weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Snapshot of cache counters
+     */
+    public static class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final int entries;
+        private final long weight;
+
+        public CacheStats(long hits, long misses, int entries, long weight) {
+            this.hits = hits;
+            this.misses = misses;
+            this.entries = entries;
+            this.weight = weight;
+        }
+
+        // @GENERATE_GETTERS_SETTERS
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public int getEntries() { return entries; }
+        public long getWeight() { return weight; }
+    }
+}
\ No newline at end of file
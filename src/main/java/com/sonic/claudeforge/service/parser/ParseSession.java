@@ -0,0 +1,119 @@
+// src/main/java/com/sonic/claudeforge/service/parser/ParseSession.java
+package com.sonic.claudeforge.service.parser;
+
+import com.sonic.claudeforge.util.ContentHash;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * State kept between revisions of one Claude response, for incremental re-parsing
+ * Remembers the files each fenced block of the last revision produced, keyed by a hash of the
+ * block, so a revision only reparses what it changed. Files are kept as copies and blocks as
+ * hashes, so no revision's response stays reachable from the session
+ * Serializable, so it can live in an HTTP session; not thread-safe by itself,
+ * {@link CodeParseManager#parseIncremental} locks the session
+ */
+public class ParseSession implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private Map<BlockKey, List<ParserFiles>> blocks = new HashMap<>();
+    private String unfencedHash;
+    private Set<String> fencedParsers;
+    private List<ParserFiles> unfencedFiles;
+    
+    private int reusedBlocks = 0;
+    private int parsedBlocks = 0;
+    
+    /**
+     * Files a block produced in the previous revision, or null if the block is new or changed
+     */
+    List<ParserFiles> findBlock(BlockKey key) {
+        return blocks.get(key);
+    }
+    
+    /**
+     * Files the unfenced text produced in the previous revision, or null if anything they depend on changed
+     * @param textHash Hash of the unfenced text from {@link ContentHash#sha256}
+     */
+    List<ParserFiles> findUnfenced(String textHash, Set<String> parsersWithFiles) {
+        return textHash.equals(unfencedHash) && parsersWithFiles.equals(fencedParsers) ? unfencedFiles : null;
+    }
+    
+    /**
+     * Replace the remembered revision with the one just parsed; blocks it no longer has are dropped
+     */
+    void update(Map<BlockKey, List<ParserFiles>> blocks, String unfencedHash, Set<String> fencedParsers,
+                List<ParserFiles> unfencedFiles, int reusedBlocks, int parsedBlocks) {
+        this.blocks = blocks;
+        this.unfencedHash = unfencedHash;
+        this.fencedParsers = fencedParsers;
+        this.unfencedFiles = unfencedFiles;
+        this.reusedBlocks = reusedBlocks;
+        this.parsedBlocks = parsedBlocks;
+    }
+    
+    // @GENERATE_GETTERS_SETTERS
+    public int getReusedBlocks() { return reusedBlocks; }
+    public int getParsedBlocks() { return parsedBlocks; }
+    
+    /**
+     * Files one parser found in one block or in the unfenced text
+     * Holds copies of the files, not views into the response they were parsed from
+     */
+    static class ParserFiles implements Serializable {
+        private static final long serialVersionUID = 1L;
+        
+        final String parserType;
+        final List<ParsedFile> files;
+        
+        ParserFiles(CodeParser parser, List<ParsedFile> files) {
+            this.parserType = parser.getParserType();
+            this.files = new ArrayList<>(files.size());
+            for (ParsedFile file : files) {
+                this.files.add(file.detached());
+            }
+        }
+    }
+    
+    /**
+     * Identity of a fenced block by its fence tag, path comment and a SHA-256 of its body
+     */
+    static class BlockKey implements Serializable {
+        private static final long serialVersionUID = 1L;
+        
+        private final String language;
+        private final String pathComment;
+        private final String bodyHash;
+        
+        BlockKey(CodeBlock block) {
+            this.language = block.getLanguage();
+            this.pathComment = block.getPathComment();
+            this.bodyHash = ContentHash.sha256(new ContentSlice(block.getSource(), block.getBodyStart(), block.getBodyEnd()));
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BlockKey other)) {
+                return false;
+            }
+            return bodyHash.equals(other.bodyHash)
+                    && Objects.equals(language, other.language)
+                    && Objects.equals(pathComment, other.pathComment);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(language, pathComment, bodyHash);
+        }
+    }
+}
\ No newline at end of file
@@ -1,14 +1,19 @@
 // src/main/java/com/sonic/claudeforge/service/parser/ParsedFile.java
 package com.sonic.claudeforge.service.parser;
 
+import java.io.Serializable;
+
 /**
  * Represents a parsed file from Claude response
+ * Serializable once {@link #detached}, while its content is a String
  */
-public class ParsedFile {
+public class ParsedFile implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
     
     private String fileName;
     private String filePath;
-    private String content;
+    private CharSequence content;
     private String fileType;
     private String parserType;
     private boolean isValid;
@@ -16,7 +21,7 @@ public class ParsedFile {
     
     public ParsedFile() {}
     
-    public ParsedFile(String filePath, String content, String fileType, String parserType) {
+    public ParsedFile(String filePath, CharSequence content, String fileType, String parserType) {
         this.filePath = filePath;
         this.content = content;
         this.fileType = fileType;
@@ -43,6 +48,44 @@ public class ParsedFile {
         return lastSlash >= 0 ? filePath.substring(lastSlash + 1) : filePath;
     }
     
+    /**
+     * Get the content without copying it; parsers hand out views into the original response
+     */
+    public CharSequence getContentView() {
+        return content;
+    }
+    
+    /**
+     * Copy of this file sharing its content, which is never modified in place
+     */
+    public ParsedFile copy() {
+        ParsedFile copy = new ParsedFile();
+        copy.fileName = fileName;
+        copy.filePath = filePath;
+        copy.content = content;
+        copy.fileType = fileType;
+        copy.parserType = parserType;
+        copy.isValid = isValid;
+        copy.errorMessage = errorMessage;
+        return copy;
+    }
+    
+    /**
+     * Copy of this file that holds its own content instead of a view into the response
+     */
+    public ParsedFile detached() {
+        ParsedFile copy = copy();
+        copy.content = content != null ? content.toString() : null;
+        return copy;
+    }
+    
+    /**
+     * Get the content length without materializing the content
+     */
+    public int getContentLength() {
+        return content != null ? content.length() : 0;
+    }
+    
     // @GENERATE_GETTERS_SETTERS
     public String getFileName() { return fileName; }
     public void setFileName(String fileName) { this.fileName = fileName; }
@@ -53,7 +96,7 @@ public class ParsedFile {
         this.fileName = extractFileNameFromPath(filePath);
     }
     
-    public String getContent() { return content; }
+    public String getContent() { return content != null ? content.toString() : null; }
     public void setContent(String content) { this.content = content; }
     
     public String getFileType() { return fileType; }
@@ -0,0 +1,23 @@
+// src/main/java/com/sonic/claudeforge/service/parser/ParsedFileListener.java
+package com.sonic.claudeforge.service.parser;
+
+/**
+ * Callback for streaming parsing
+ * Receives each parsed file as soon as it is complete
+ */
+public interface ParsedFileListener {
+    
+    /**
+     * Called for every file found, valid or invalid
+     * @param file The parsed file
+     */
+    void onFile(ParsedFile file);
+    
+    /**
+     * Called when a parser fails
+     * @param parserType Type of parser that had error
+     * @param errorMessage Error message
+     */
+    default void onError(String parserType, String errorMessage) {
+    }
+}
\ No newline at end of file
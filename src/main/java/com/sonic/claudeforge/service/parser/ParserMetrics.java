@@ -0,0 +1,164 @@
+// src/main/java/com/sonic/claudeforge/service/parser/ParserMetrics.java
+package com.sonic.claudeforge.service.parser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters for the parser pipeline, tagged by parser type
+ * Meters are registered up front so recording a run is a map lookup and a few atomic updates
+ */
+public class ParserMetrics {
+    
+    private final MeterRegistry registry;
+    private final Map<String, ParserMeters> metersByType = new HashMap<>();
+    private final DistributionSummary responseSize;
+    
+    public ParserMetrics(MeterRegistry registry, List<CodeParser> parsers) {
+        this.registry = registry;
+        for (CodeParser parser : parsers) {
+            metersByType.put(parser.getParserType(), new ParserMeters(registry, parser.getParserType()));
+        }
+        this.responseSize = DistributionSummary.builder("claudeforge.parser.response.size")
+                .description("Size of Claude responses handed to the parsers")
+                .baseUnit("chars")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+    
+    /**
+     * Record the size of a response about to be parsed
+     */
+    public void recordResponse(int length) {
+        responseSize.record(length);
+    }
+    
+    /**
+     * Run and time a parser's canHandle check
+     */
+    public boolean canHandle(CodeParser parser, ContentFeatures features) {
+        ParserMeters meters = metersFor(parser);
+        return measure(meters, meters.canHandle, () -> parser.canHandle(features));
+    }
+    
+    /**
+     * Run and time a parser's confidence score, which counts as its canHandle check
+     */
+    public int confidence(CodeParser parser, ContentFeatures features) {
+        ParserMeters meters = metersFor(parser);
+        return measure(meters, meters.canHandle, () -> parser.getConfidence(features));
+    }
+    
+    /**
+     * Count a parse pass the scheduler decided not to run
+     * @param reason Why it was skipped (e.g., "confidence", "claimed")
+     */
+    public void skipped(CodeParser parser, String reason) {
+        Counter.builder("claudeforge.parser.skipped")
+                .description("Parse passes skipped by the scheduler")
+                .tag("parser", parser.getParserType())
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+    
+    /**
+     * Run and time a parser over its view of a response, counting what it scanned and found
+     */
+    public List<ParsedFile> parse(CodeParser parser, TokenizedContent content) {
+        ParserMeters meters = metersFor(parser);
+        meters.scanned.increment(scannedLength(parser, content));
+        
+        List<ParsedFile> files = measure(meters, meters.parse, () -> parser.parse(content));
+        for (ParsedFile file : files) {
+            (file.isValid() ? meters.validFiles : meters.invalidFiles).increment();
+        }
+        return files;
+    }
+    
+    private <T> T measure(ParserMeters meters, Timer timer, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            meters.errors(registry, e).increment();
+            throw e;
+        } finally {
+            sample.stop(timer);
+        }
+    }
+    
+    /**
+     * Characters a parser can look at: its routed blocks, plus the unfenced text if it reads that
+     */
+    private static long scannedLength(CodeParser parser, TokenizedContent content) {
+        long length = 0;
+        for (CodeBlock block : content.getBlocks()) {
+            length += block.getBodyEnd() - block.getBodyStart();
+        }
+        if (parser.parsesUnfencedText()) {
+            for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+                length += segment.getEnd() - segment.getStart();
+            }
+        }
+        return length;
+    }
+    
+    private ParserMeters metersFor(CodeParser parser) {
+        ParserMeters meters = metersByType.get(parser.getParserType());
+        return meters != null ? meters : new ParserMeters(registry, parser.getParserType());
+    }
+    
+    private static class ParserMeters {
+        private final String parserType;
+        private final Timer canHandle;
+        private final Timer parse;
+        private final Counter scanned;
+        private final Counter validFiles;
+        private final Counter invalidFiles;
+        
+        ParserMeters(MeterRegistry registry, String parserType) {
+            this.parserType = parserType;
+            this.canHandle = Timer.builder("claudeforge.parser.canhandle")
+                    .description("Time spent deciding whether a parser applies")
+                    .tag("parser", parserType)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.parse = Timer.builder("claudeforge.parser.parse")
+                    .description("Time spent parsing a response")
+                    .tag("parser", parserType)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.scanned = Counter.builder("claudeforge.parser.scanned")
+                    .description("Characters handed to a parser")
+                    .baseUnit("chars")
+                    .tag("parser", parserType)
+                    .register(registry);
+            this.validFiles = files(registry, parserType, "true");
+            this.invalidFiles = files(registry, parserType, "false");
+        }
+        
+        private static Counter files(MeterRegistry registry, String parserType, String valid) {
+            return Counter.builder("claudeforge.parser.files")
+                    .description("Files found by a parser")
+                    .tag("parser", parserType)
+                    .tag("valid", valid)
+                    .register(registry);
+        }
+        
+        Counter errors(MeterRegistry registry, Exception e) {
+            return Counter.builder("claudeforge.parser.errors")
+                    .description("Exceptions thrown by a parser")
+                    .tag("parser", parserType)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(registry);
+        }
+    }
+}
\ No newline at end of file
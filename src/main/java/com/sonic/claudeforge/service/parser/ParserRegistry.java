@@ -0,0 +1,121 @@
+// src/main/java/com/sonic/claudeforge/service/parser/ParserRegistry.java
+package com.sonic.claudeforge.service.parser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Registry of every {@link CodeParser} bean, in {@code @Order} order
+ * Routes each fenced block to the parsers that declare its fence tag with one map lookup;
+ * untagged blocks are routed by their path comment's extension ({@link CodeBlock#getRouteLanguage()}),
+ * and blocks with a tag nobody declares go to the fallback parsers ({@link CodeParser#ANY_FENCE})
+ */
+@Component
+public class ParserRegistry {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ParserRegistry.class);
+    
+    private final List<CodeParser> parsers;
+    private final Map<String, List<CodeParser>> ownersByFence = new HashMap<>();
+    private final List<CodeParser> fallbackParsers = new ArrayList<>();
+    private final Map<String, CodeParser> parsersByType = new HashMap<>();
+    private final Map<CodeParser, Integer> indexes = new IdentityHashMap<>();
+    
+    public ParserRegistry(List<CodeParser> parsers) {
+        this.parsers = List.copyOf(parsers);
+        
+        for (int i = 0; i < this.parsers.size(); i++) {
+            CodeParser parser = this.parsers.get(i);
+            indexes.put(parser, i);
+            
+            CodeParser existing = parsersByType.putIfAbsent(parser.getParserType().toLowerCase(Locale.ROOT), parser);
+            if (existing != null) {
+                logger.warn("Parser type '{}' is registered twice; using {}",
+                           parser.getParserType(), existing.getClass().getSimpleName());
+            }
+            
+            for (String language : parser.getFenceLanguages()) {
+                if (CodeParser.ANY_FENCE.equals(language)) {
+                    fallbackParsers.add(parser);
+                } else {
+                    ownersByFence.computeIfAbsent(language.toLowerCase(Locale.ROOT), key -> new ArrayList<>()).add(parser);
+                }
+            }
+        }
+        
+        logger.info("Registered {} fence tags for {} parsers ({} fallback)",
+                   ownersByFence.size(), this.parsers.size(), fallbackParsers.size());
+    }
+    
+    /**
+     * Get the parsers that receive blocks with the given fence tag
+     * @param language Lower-case fence language tag
+     * @return Declaring parsers, or the fallback parsers if no parser declares the tag
+     */
+    public List<CodeParser> getOwners(String language) {
+        return ownersByFence.getOrDefault(language, fallbackParsers);
+    }
+    
+    /**
+     * Split tokenized content into one view per parser, each exposing only the blocks routed to it
+     * @param content Response tokenized once by {@link CodeFenceTokenizer}
+     * @return Views in registration order, matching {@link #getParsers()}
+     */
+    public List<TokenizedContent> route(TokenizedContent content) {
+        List<List<CodeBlock>> routed = new ArrayList<>(parsers.size());
+        for (int i = 0; i < parsers.size(); i++) {
+            routed.add(new ArrayList<>());
+        }
+        
+        for (CodeBlock block : content.getBlocks()) {
+            for (CodeParser owner : getOwners(block.getRouteLanguage())) {
+                routed.get(indexes.get(owner)).add(block);
+            }
+        }
+        
+        List<TokenizedContent> views = new ArrayList<>(parsers.size());
+        for (List<CodeBlock> blocks : routed) {
+            views.add(content.withBlocks(blocks));
+        }
+        return views;
+    }
+    
+    /**
+     * View of tokenized content exposing only the blocks routed to one parser
+     */
+    public TokenizedContent route(TokenizedContent content, CodeParser parser) {
+        List<CodeBlock> blocks = new ArrayList<>();
+        for (CodeBlock block : content.getBlocks()) {
+            if (getOwners(block.getRouteLanguage()).contains(parser)) {
+                blocks.add(block);
+            }
+        }
+        return content.withBlocks(blocks);
+    }
+    
+    /**
+     * Check if a parser could find anything in its routed view of a response
+     */
+    public boolean hasWork(CodeParser parser, TokenizedContent routed) {
+        return routed.hasBlocks() || (parser.parsesUnfencedText() && routed.hasUnfencedText());
+    }
+    
+    /**
+     * Find a parser by type name, ignoring case
+     * @return The parser, or null if no parser has that type
+     */
+    public CodeParser find(String parserType) {
+        return parsersByType.get(parserType.toLowerCase(Locale.ROOT));
+    }
+    
+    // @GENERATE_GETTERS_SETTERS
+    public List<CodeParser> getParsers() { return parsers; }
+}
\ No newline at end of file
@@ -0,0 +1,337 @@
+// src/main/java/com/sonic/claudeforge/service/parser/PathCommentScanner.java
+package com.sonic.claudeforge.service.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Linear-time finder for raw files introduced by a path comment line (e.g. "// src/App.tsx")
+ * Replaces the lazy [\s\S]+? patterns the parsers used for unfenced code, which backtrack
+ * heavily on large responses; here every character is looked at a bounded number of times
+ */
+public class PathCommentScanner {
+    
+    private final String pathPrefix;
+    private final boolean blockComments;
+    private final String[] extensions;
+    private final String[] dottedExtensions;
+    
+    /**
+     * @param pathPrefix Required start of the path (e.g. "src/"), or "" for any path
+     * @param blockComments Also accept block comment headers that wrap the path
+     * @param extensions Accepted file extensions, without the dot
+     */
+    public PathCommentScanner(String pathPrefix, boolean blockComments, String... extensions) {
+        this.pathPrefix = pathPrefix;
+        this.blockComments = blockComments;
+        this.extensions = extensions.clone();
+        this.dottedExtensions = new String[extensions.length];
+        for (int i = 0; i < extensions.length; i++) {
+            dottedExtensions[i] = "." + extensions[i];
+        }
+    }
+    
+    /**
+     * Find every raw file in a range; each file runs until the next line that starts with a path comment
+     * @param text The content to scan
+     * @param start Start of the range (inclusive)
+     * @param end End of the range (exclusive)
+     * @return Files in content order
+     */
+    public List<RawFile> findAll(String text, int start, int end) {
+        List<RawFile> files = new ArrayList<>();
+        Scan scan = new Scan(text, start, end);
+        
+        int position = start;
+        while (position < end) {
+            Header header = scan.nextHeader(position, false);
+            if (header == null) {
+                break;
+            }
+            int bodyEnd = scan.bodyEnd(header.bodyStart);
+            files.add(header.toFile(text, bodyEnd));
+            position = bodyEnd;
+        }
+        
+        return files;
+    }
+    
+    /**
+     * Find the first path comment that starts a line; the rest of the range is its code
+     * @param text The content to scan
+     * @param start Start of the range (inclusive)
+     * @param end End of the range (exclusive)
+     * @return The file, or null if the range has no path comment line
+     */
+    public RawFile findFirst(String text, int start, int end) {
+        Header header = new Scan(text, start, end).nextHeader(start, true);
+        return header == null ? null : header.toFile(text, end);
+    }
+    
+    /**
+     * A file found by the scanner, with path and code already trimmed; the code is a view into the scanned text
+     */
+    public static class RawFile {
+        private final String path;
+        private final String extension;
+        private final ContentSlice code;
+        
+        RawFile(String path, String extension, ContentSlice code) {
+            this.path = path;
+            this.extension = extension;
+            this.code = code;
+        }
+        
+        // @GENERATE_GETTERS_SETTERS
+        public String getPath() { return path; }
+        public String getExtension() { return extension; }
+        public ContentSlice getCode() { return code; }
+    }
+    
+    private static class Header {
+        private final int pathStart;
+        private final int pathEnd;
+        private final String extension;
+        private final int bodyStart;
+        
+        Header(int pathStart, int pathEnd, String extension, int bodyStart) {
+            this.pathStart = pathStart;
+            this.pathEnd = pathEnd;
+            this.extension = extension;
+            this.bodyStart = bodyStart;
+        }
+        
+        RawFile toFile(String text, int bodyEnd) {
+            return new RawFile(text.substring(pathStart, pathEnd).trim(), extension,
+                    new ContentSlice(text, bodyStart, bodyEnd).trim());
+        }
+    }
+    
+    /**
+     * State of one scan over a range; remembers the last header line so that several comment
+     * openers on one line do not rescan it
+     */
+    private class Scan {
+        private final String text;
+        private final int start;
+        private final int end;
+        
+        private int describedFrom = Integer.MAX_VALUE;
+        private int lineEnd;
+        private int pathEnd;
+        private int dotIndex;
+        private String extension;
+        private boolean closedOnLine;
+        
+        Scan(String text, int start, int end) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+        }
+        
+        Header nextHeader(int from, boolean atLineStart) {
+            for (int i = from; i + 1 < end; i++) {
+                if (!isCommentOpener(i)) {
+                    continue;
+                }
+                if (atLineStart && !startsLine(i)) {
+                    continue;
+                }
+                Header header = headerAt(i);
+                if (header != null) {
+                    return header;
+                }
+            }
+            return null;
+        }
+        
+        /**
+         * Where the code of a file ends: before the newlines leading up to the next path comment line
+         */
+        int bodyEnd(int bodyStart) {
+            for (int p = bodyStart + 1; p < end; p++) {
+                if (!isNewline(text.charAt(p))) {
+                    continue;
+                }
+                int q = p;
+                while (q < end && isNewline(text.charAt(q))) {
+                    q++;
+                }
+                if (startsNextFile(q)) {
+                    return p;
+                }
+                p = q - 1;
+            }
+            return end;
+        }
+        
+        private Header headerAt(int commentStart) {
+            int pathStart = skipSpaces(commentStart + 2);
+            if (pathStart + pathPrefix.length() > end || !text.startsWith(pathPrefix, pathStart)) {
+                return null;
+            }
+            
+            describeLine(pathStart);
+            if (extension == null || lineEnd == end || !hasFileName(commentStart, pathStart, dotIndex)) {
+                return null;
+            }
+            
+            // A block comment not closed on the header line may be closed on a line of its own
+            int bodyStart = -1;
+            if (blockComments && !closedOnLine) {
+                int closer = skipSpaces(lineEnd);
+                if (text.startsWith("*/", closer) && closer + 2 <= end) {
+                    bodyStart = bodyStartAfter(closer + 2);
+                }
+            }
+            if (bodyStart < 0) {
+                bodyStart = bodyStartAfter(lineEnd);
+            }
+            if (bodyStart < 0) {
+                return null;
+            }
+            
+            return new Header(pathStart, pathEnd, extension, bodyStart);
+        }
+        
+        /**
+         * Blank lines after a header belong to neither; the code starts after the last of them
+         * @return Start of the code, or -1 if no line break follows or nothing is left for the code
+         */
+        private int bodyStartAfter(int headerEnd) {
+            int codeStart = skipSpaces(headerEnd);
+            int lastNewline = codeStart - 1;
+            while (lastNewline >= headerEnd && !isNewline(text.charAt(lastNewline))) {
+                lastNewline--;
+            }
+            if (lastNewline < headerEnd) {
+                return -1;
+            }
+            if (codeStart < end) {
+                return lastNewline + 1;
+            }
+            
+            // Only whitespace follows; that still counts as an (empty) file if there is any
+            int firstNewline = headerEnd;
+            while (!isNewline(text.charAt(firstNewline))) {
+                firstNewline++;
+            }
+            return firstNewline + 1 < end ? firstNewline + 1 : -1;
+        }
+        
+        /**
+         * Find the end of the line holding a header path and the accepted extension it ends with
+         */
+        private void describeLine(int from) {
+            if (from >= describedFrom && from <= lineEnd) {
+                return;
+            }
+            describedFrom = from;
+            
+            lineEnd = from;
+            while (lineEnd < end && !isNewline(text.charAt(lineEnd))) {
+                lineEnd++;
+            }
+            
+            int tail = trimBack(lineEnd);
+            closedOnLine = blockComments && tail - 2 >= start && text.startsWith("*/", tail - 2);
+            if (closedOnLine) {
+                tail = trimBack(tail - 2);
+            }
+            
+            extension = null;
+            for (int i = 0; i < extensions.length; i++) {
+                int dot = tail - dottedExtensions[i].length();
+                if (dot >= start && text.startsWith(dottedExtensions[i], dot)) {
+                    extension = extensions[i];
+                    dotIndex = dot;
+                    pathEnd = tail;
+                    break;
+                }
+            }
+        }
+        
+        /**
+         * Check if a path comment naming an accepted file starts at the given position
+         */
+        private boolean startsNextFile(int position) {
+            if (position + 1 >= end || !isCommentOpener(position)) {
+                return false;
+            }
+            int pathStart = skipSpaces(position + 2);
+            if (pathStart + pathPrefix.length() > end || !text.startsWith(pathPrefix, pathStart)) {
+                return false;
+            }
+            
+            int nameEnd = pathStart + pathPrefix.length();
+            while (nameEnd < end && !isNewline(text.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            
+            for (String dotted : dottedExtensions) {
+                for (int i = pathStart; i + dotted.length() <= nameEnd; i++) {
+                    if (text.startsWith(dotted, i) && hasFileName(position, pathStart, i)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * At least one character on the header line must precede the extension, after the prefix
+         * Without a prefix that character may be a blank between the comment opener and the path
+         */
+        private boolean hasFileName(int commentStart, int pathStart, int dot) {
+            if (dot >= pathStart + pathPrefix.length() + 1) {
+                return true;
+            }
+            return pathPrefix.isEmpty() && dot == pathStart && dot - 1 >= commentStart + 2
+                    && !isNewline(text.charAt(dot - 1));
+        }
+        
+        private boolean isCommentOpener(int i) {
+            if (text.charAt(i) != '/') {
+                return false;
+            }
+            char next = text.charAt(i + 1);
+            return next == '/' || (blockComments && next == '*');
+        }
+        
+        private boolean startsLine(int i) {
+            int k = i;
+            while (k > start && isSpace(text.charAt(k - 1))) {
+                if (isNewline(text.charAt(k - 1))) {
+                    return true;
+                }
+                k--;
+            }
+            return k == start;
+        }
+        
+        private int skipSpaces(int from) {
+            int i = from;
+            while (i < end && isSpace(text.charAt(i))) {
+                i++;
+            }
+            return i;
+        }
+        
+        private int trimBack(int to) {
+            int i = to;
+            while (i > start && isSpace(text.charAt(i - 1))) {
+                i--;
+            }
+            return i;
+        }
+    }
+    
+    private static boolean isNewline(char c) {
+        return c == '\n' || c == '\r';
+    }
+    
+    // Same set as the regex class \s
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
\ No newline at end of file
@@ -3,37 +3,41 @@ package com.sonic.claudeforge.service.parser;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Enhanced Parser for React/TypeScript code from Claude responses
  * Supports TSX, JSX, TS, and JS files including pure TypeScript types/interfaces
  */
 @Component
+@Order(20)
 public class ReactCodeParser implements CodeParser {
     
     private static final Logger logger = LoggerFactory.getLogger(ReactCodeParser.class);
     
-    // Pattern for React/TS code blocks in markdown format
-    private static final Pattern REACT_CODE_BLOCK_PATTERN = 
-        Pattern.compile("```(tsx?|jsx?|typescript|javascript)\\s*//\\s*([^\\n]+)\\s*\\n([\\s\\S]*?)```");
+    // Fence language tags owned by this parser
+    private static final String[] FENCE_LANGUAGES = {"tsx", "ts", "jsx", "js", "typescript", "javascript"};
     
-    // Pattern for raw React/TS code with path comments
-    private static final Pattern RAW_REACT_PATTERN = 
-        Pattern.compile("//\\s*(src/[^\\r\\n]+\\.(tsx?|jsx?|js))\\s*[\\r\\n]+([\\s\\S]+?)(?=[\\r\\n]+//\\s*src/[^\\r\\n]+\\.(tsx?|jsx?|js)|\\Z)", Pattern.MULTILINE);
+    // Finder for raw React/TS code with path comments
+    private static final PathCommentScanner RAW_FILE_SCANNER = 
+        new PathCommentScanner("src/", false, "tsx", "ts", "jsx", "js");
     
-    // Pattern for single React/TS file
-    private static final Pattern SINGLE_REACT_PATTERN = 
-        Pattern.compile("^\\s*//\\s*(src/[^\\r\\n]+\\.(tsx?|jsx?|js))\\s*[\\r\\n]+([\\s\\S]+)$", Pattern.MULTILINE);
+    // Keywords that canHandle looks for
+    private static final String[] DETECTION_KEYWORDS = {
+        "```tsx", "```jsx", "// src/", ".tsx", ".jsx", "import React", "useState", "useEffect",
+        "useContext", "useReducer", "JSX.Element", "React.FC", "React.Component", "export default",
+        "function", "const", "<", "/>", "return ("
+    };
+    
+    private final ContentFeatureScanner detector = new ContentFeatureScanner(List.of(this));
     
     @Override
-    public List<ParsedFile> parse(String content) {
-        logger.debug("Parsing React/TypeScript code from content (length: {})", content.length());
+    public List<ParsedFile> parse(TokenizedContent content) {
+        logger.debug("Parsing React/TypeScript code from content (length: {})", content.getContent().length());
         
         List<ParsedFile> files = new ArrayList<>();
         
@@ -54,14 +58,16 @@ public class ReactCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseMarkdownCodeBlocks(String content) {
+    private List<ParsedFile> parseMarkdownCodeBlocks(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = REACT_CODE_BLOCK_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String fileExtension = matcher.group(1);
-            String filePath = matcher.group(2).trim();
-            String code = matcher.group(3).trim();
+        for (CodeBlock block : content.getBlocks(FENCE_LANGUAGES)) {
+            if (!block.hasPath()) {
+                continue;
+            }
+            String fileExtension = block.getRouteLanguage();
+            String filePath = block.getPathComment();
+            ContentSlice code = block.getBody();
             
             ParsedFile file = createReactFile(filePath, code, fileExtension);
             if (file != null) {
@@ -73,45 +79,50 @@ public class ReactCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseRawCode(String content) {
+    private List<ParsedFile> parseRawCode(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = RAW_REACT_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String fileExtension = matcher.group(2);
-            String code = matcher.group(3).trim();
-            
-            ParsedFile file = createReactFile(filePath, code, fileExtension);
-            if (file != null) {
-                files.add(file);
-                logger.debug("Found raw React/TS file: {} ({} chars)", filePath, code.length());
+        // Only the text outside fenced blocks can hold raw files
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            for (PathCommentScanner.RawFile rawFile : RAW_FILE_SCANNER.findAll(content.getContent(), segment.getStart(), segment.getEnd())) {
+                String filePath = rawFile.getPath();
+                String fileExtension = rawFile.getExtension();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createReactFile(filePath, code, fileExtension);
+                if (file != null) {
+                    files.add(file);
+                    logger.debug("Found raw React/TS file: {} ({} chars)", filePath, code.length());
+                }
             }
         }
         
         return files;
     }
     
-    private List<ParsedFile> parseSingleFile(String content) {
+    private List<ParsedFile> parseSingleFile(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = SINGLE_REACT_PATTERN.matcher(content.trim());
         
-        if (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String fileExtension = matcher.group(2);
-            String code = matcher.group(3).trim();
-            
-            ParsedFile file = createReactFile(filePath, code, fileExtension);
-            if (file != null) {
-                files.add(file);
-                logger.debug("Found single React/TS file: {} ({} chars)", filePath, code.length());
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            PathCommentScanner.RawFile rawFile = RAW_FILE_SCANNER.findFirst(content.getContent(), segment.getStart(), segment.getEnd());
+            if (rawFile != null) {
+                String filePath = rawFile.getPath();
+                String fileExtension = rawFile.getExtension();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createReactFile(filePath, code, fileExtension);
+                if (file != null) {
+                    files.add(file);
+                    logger.debug("Found single React/TS file: {} ({} chars)", filePath, code.length());
+                }
+                break;
             }
         }
         
         return files;
     }
     
-    private ParsedFile createReactFile(String filePath, String content, String extension) {
+    private ParsedFile createReactFile(String filePath, ContentSlice content, String extension) {
         // Enhanced validation for React/TypeScript content
         if (!isValidReactOrTypeScriptContent(content)) {
             logger.warn("Invalid React/TypeScript content for file: {}", filePath);
@@ -127,7 +138,7 @@ public class ReactCodeParser implements CodeParser {
     /**
      * Enhanced validation that accepts both React components and pure TypeScript
      */
-    private boolean isValidReactOrTypeScriptContent(String content) {
+    private boolean isValidReactOrTypeScriptContent(ContentSlice content) {
         // Check for TypeScript/JavaScript keywords and patterns
         return content.contains("export ") || 
                content.contains("import ") || 
@@ -149,7 +160,7 @@ public class ReactCodeParser implements CodeParser {
     /**
      * Enhanced file type detection
      */
-    private String determineFileType(String content, String extension) {
+    private String determineFileType(ContentSlice content, String extension) {
         // Check for TypeScript-specific patterns first
         if (content.contains("interface ") && content.contains("export interface")) {
             return "TypeScript Interfaces";
@@ -193,6 +204,11 @@ public class ReactCodeParser implements CodeParser {
         return "TypeScript/React";
     }
     
+    @Override
+    public String[] getFenceLanguages() {
+        return FENCE_LANGUAGES.clone();
+    }
+    
     @Override
     public String[] getSupportedExtensions() {
         return new String[]{".tsx", ".jsx", ".ts", ".js"};
@@ -203,30 +219,60 @@ public class ReactCodeParser implements CodeParser {
         return "React/TypeScript";
     }
     
+    @Override
+    public String[] getDetectionKeywords() {
+        return DETECTION_KEYWORDS.clone();
+    }
+    
     @Override
     public boolean canHandle(String content) {
+        return canHandle(detector.scan(content));
+    }
+    
+    @Override
+    public boolean canHandle(ContentFeatures features) {
         // Focus on React/JSX content, avoid pure TypeScript files
-        return content.contains("```tsx") ||
-               content.contains("```jsx") ||
+        return features.has("```tsx") ||
+               features.has("```jsx") ||
                // Check for React file paths only (.tsx, .jsx)
-               content.contains("// src/") && (
-                   content.contains(".tsx") || 
-                   content.contains(".jsx")
+               features.has("// src/") && (
+                   features.has(".tsx") || 
+                   features.has(".jsx")
                ) ||
                // Check for React-specific patterns
-               content.contains("import React") ||
-               content.contains("useState") ||
-               content.contains("useEffect") ||
-               content.contains("useContext") ||
-               content.contains("useReducer") ||
-               content.contains("JSX.Element") ||
-               content.contains("React.FC") ||
-               content.contains("React.Component") ||
+               features.has("import React") ||
+               features.has("useState") ||
+               features.has("useEffect") ||
+               features.has("useContext") ||
+               features.has("useReducer") ||
+               features.has("JSX.Element") ||
+               features.has("React.FC") ||
+               features.has("React.Component") ||
                // React component patterns
-               (content.contains("export default") && 
-                (content.contains("function") || content.contains("const")) && 
-                (content.contains("<") && content.contains("/>"))) ||
+               (features.has("export default") && 
+                (features.has("function") || features.has("const")) && 
+                (features.has("<") && features.has("/>"))) ||
                // JSX syntax
-               (content.contains("return (") && content.contains("<") && content.contains("/>"));
+               (features.has("return (") && features.has("<") && features.has("/>"));
+    }
+    
+    @Override
+    public int getConfidence(ContentFeatures features) {
+        if (features.has("```tsx") || features.has("```jsx")) {
+            return FULL_CONFIDENCE;
+        } else if (features.has("// src/") && (features.has(".tsx") || features.has(".jsx"))) {
+            // Raw files need a path comment like this one
+            return 90;
+        } else if (features.has("import React") || features.has("JSX.Element") ||
+                   features.has("React.FC") || features.has("React.Component")) {
+            return 70;
+        } else if (features.has("useState") || features.has("useEffect") ||
+                   features.has("useContext") || features.has("useReducer")) {
+            return 50;
+        } else if ((features.has("export default") || features.has("return (")) &&
+                   features.has("<") && features.has("/>")) {
+            return 40;
+        }
+        return NO_CONFIDENCE;
     }
 }
\ No newline at end of file
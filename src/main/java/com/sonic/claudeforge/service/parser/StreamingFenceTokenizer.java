@@ -0,0 +1,291 @@
+// src/main/java/com/sonic/claudeforge/service/parser/StreamingFenceTokenizer.java
+package com.sonic.claudeforge.service.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Locale;
+
+/**
+ * Incremental variant of {@link CodeFenceTokenizer} that reads a response from a Reader
+ * Each block is handed to the listener as soon as its closing fence arrives, so only
+ * the block currently being read is held in memory. A run of text between blocks is held
+ * until it is complete, up to a limit; longer runs are dropped whole instead of being cut
+ */
+public class StreamingFenceTokenizer {
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    /**
+     * Receives tokens in response order
+     */
+    public interface Listener {
+        
+        /**
+         * Called when a fenced block is complete; the block's source is its own body text
+         */
+        void onBlock(CodeBlock block);
+        
+        /**
+         * Called with each completed run of text outside fenced blocks that fits the text limit
+         */
+        void onText(String text);
+    }
+    
+    private enum State { TEXT, HEADER, BODY }
+
+    // Progress through the fence header: tag, blank space, possible comment opener, rest of line
+    private enum HeaderPhase { TAG, SPACE, SLASH, COMMENT, LINE }
+
+    private final Listener listener;
+    private final int maxTextLength;
+
+    private State state = State.TEXT;
+    private HeaderPhase headerPhase;
+    private int pendingTicks = 0;
+    private final StringBuilder text = new StringBuilder();
+    private boolean textOverflow = false;
+    private boolean textTruncated = false;
+    private final StringBuilder header = new StringBuilder();
+    private final StringBuilder body = new StringBuilder();
+    private int tagEnd;
+    private int firstNewline;
+    private int commentStart;
+    private int bodyOffset;
+    private long length = 0;
+    private String language;
+    private String pathComment;
+
+    public StreamingFenceTokenizer(Listener listener) {
+        this(listener, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * @param maxTextLength Longest run of text outside fenced blocks that is held and emitted, in characters
+     */
+    public StreamingFenceTokenizer(Listener listener, int maxTextLength) {
+        this.listener = listener;
+        this.maxTextLength = maxTextLength;
+    }
+    
+    /**
+     * Read the whole response and emit its tokens
+     * @param reader Source of the Claude response
+     */
+    public void tokenize(Reader reader) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            length += read;
+            for (int i = 0; i < read; i++) {
+                accept(buffer[i]);
+            }
+        }
+        finish();
+    }
+    
+    /**
+     * Number of characters read so far
+     */
+    public long getLength() {
+        return length;
+    }
+    
+    /**
+     * Check if a run of text was dropped for exceeding the text limit
+     */
+    public boolean isTextTruncated() {
+        return textTruncated;
+    }
+    
+    private void accept(char c) {
+        switch (state) {
+            case TEXT -> acceptText(c);
+            case HEADER -> acceptHeader(c);
+            case BODY -> acceptBody(c);
+        }
+    }
+    
+    private void acceptText(char c) {
+        if (c == '`') {
+            if (++pendingTicks == 3) {
+                pendingTicks = 0;
+                startHeader();
+            }
+            return;
+        }
+        for (; pendingTicks > 0; pendingTicks--) {
+            appendText('`');
+        }
+        appendText(c);
+    }
+    
+    private void appendText(char c) {
+        if (textOverflow) {
+            return;
+        }
+        if (text.length() >= maxTextLength) {
+            // Drop the run now rather than hold it until its end
+            textOverflow = true;
+            text.setLength(0);
+            text.trimToSize();
+            return;
+        }
+        text.append(c);
+    }
+    
+    private void appendText(CharSequence chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            appendText(chars.charAt(i));
+        }
+    }
+
+    private void startHeader() {
+        header.setLength(0);
+        headerPhase = HeaderPhase.TAG;
+        firstNewline = -1;
+        state = State.HEADER;
+    }
+
+    /**
+     * Collect the fence line (and the optional path comment line) until the body start is known
+     * Mirrors the rules of {@link CodeFenceTokenizer}
+     */
+    private void acceptHeader(char c) {
+        int index = header.length();
+        header.append(c);
+
+        if (headerPhase == HeaderPhase.TAG) {
+            if (isTagChar(c)) {
+                return;
+            }
+            tagEnd = index;
+            headerPhase = HeaderPhase.SPACE;
+        }
+
+        switch (headerPhase) {
+            case SPACE -> {
+                if (c == '\n' && firstNewline < 0) {
+                    firstNewline = index;
+                }
+                if (c == '/') {
+                    headerPhase = HeaderPhase.SLASH;
+                } else if (!Character.isWhitespace(c)) {
+                    noPathComment();
+                }
+            }
+            case SLASH -> {
+                if (c == '/' || c == '*') {
+                    commentStart = index + 1;
+                    headerPhase = HeaderPhase.COMMENT;
+                } else {
+                    if (c == '\n' && firstNewline < 0) {
+                        firstNewline = index;
+                    }
+                    noPathComment();
+                }
+            }
+            case COMMENT -> {
+                if (c == '\n') {
+                    pathComment = cleanPathComment(header.substring(commentStart, index));
+                    startBody(index + 1);
+                }
+            }
+            case LINE -> {
+                if (c == '\n') {
+                    startBody(index + 1);
+                }
+            }
+            default -> { }
+        }
+    }
+
+    private void noPathComment() {
+        pathComment = null;
+        if (firstNewline >= 0) {
+            startBody(firstNewline + 1);
+        } else {
+            headerPhase = HeaderPhase.LINE;
+        }
+    }
+
+    private void startBody(int offset) {
+        language = header.substring(0, tagEnd).toLowerCase(Locale.ROOT);
+        bodyOffset = offset;
+        body.setLength(0);
+        state = State.BODY;
+        
+        // Header characters read past the body start belong to the body (and may close it)
+        int end = header.length();
+        for (int i = offset; i < end && state == State.BODY; i++) {
+            acceptBody(header.charAt(i));
+        }
+    }
+
+    private void acceptBody(char c) {
+        if (c == '`') {
+            if (++pendingTicks == 3) {
+                pendingTicks = 0;
+                emitBlock();
+                state = State.TEXT;
+            }
+            return;
+        }
+        flushTicks(body);
+        body.append(c);
+    }
+    
+    private void emitBlock() {
+        // Text before the fence is only complete once the fence is known to be closed
+        flushText();
+        String source = body.toString();
+        body.setLength(0);
+        listener.onBlock(new CodeBlock(source, language, pathComment, 0, source.length(), 0, source.length()));
+    }
+    
+    private void finish() {
+        // An unterminated fence is treated as plain text, like the batch tokenizer does
+        if (state == State.HEADER) {
+            appendText("```");
+            appendText(header);
+        } else if (state == State.BODY) {
+            appendText("```");
+            appendText(header.subSequence(0, bodyOffset));
+            appendText(body);
+        }
+        for (; pendingTicks > 0; pendingTicks--) {
+            appendText('`');
+        }
+        flushText();
+        state = State.TEXT;
+    }
+
+    private void flushTicks(StringBuilder target) {
+        for (; pendingTicks > 0; pendingTicks--) {
+            target.append('`');
+        }
+    }
+    
+    private void flushText() {
+        if (textOverflow) {
+            textOverflow = false;
+            textTruncated = true;
+            return;
+        }
+        if (text.length() > 0) {
+            listener.onText(text.toString());
+            text.setLength(0);
+        }
+    }
+    
+    private static boolean isTagChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '+' || c == '#' || c == '_' || c == '.';
+    }
+    
+    private static String cleanPathComment(String comment) {
+        String path = comment.trim();
+        if (path.endsWith("*/")) {
+            path = path.substring(0, path.length() - 2).trim();
+        }
+        return path;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+// src/main/java/com/sonic/claudeforge/service/parser/TokenizedContent.java
+package com.sonic.claudeforge.service.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Claude response split into fenced code blocks and the unfenced text between them
+ * Produced once per response by {@link CodeFenceTokenizer} and shared by all parsers
+ */
+public class TokenizedContent {
+    
+    private final String content;
+    private final List<CodeBlock> blocks;
+    private final List<Segment> unfencedSegments;
+    private final Map<String, List<CodeBlock>> blocksByLanguage = new HashMap<>();
+    
+    public TokenizedContent(String content, List<CodeBlock> blocks, List<Segment> unfencedSegments) {
+        this.content = content;
+        this.blocks = Collections.unmodifiableList(blocks);
+        this.unfencedSegments = Collections.unmodifiableList(unfencedSegments);
+        for (CodeBlock block : blocks) {
+            blocksByLanguage.computeIfAbsent(block.getRouteLanguage(), key -> new ArrayList<>()).add(block);
+        }
+    }
+    
+    /**
+     * Get fenced blocks tagged with any of the given languages, in response order
+     * @param languages Lower-case fence language tags (e.g., "java", "tsx")
+     * @return Blocks owned by those languages
+     */
+    public List<CodeBlock> getBlocks(String... languages) {
+        if (languages.length == 1) {
+            return blocksByLanguage.getOrDefault(languages[0], List.of());
+        }
+        
+        List<CodeBlock> owned = new ArrayList<>();
+        for (String language : languages) {
+            owned.addAll(blocksByLanguage.getOrDefault(language, List.of()));
+        }
+        owned.sort((a, b) -> Integer.compare(a.getBlockStart(), b.getBlockStart()));
+        return owned;
+    }
+    
+    /**
+     * Check if the response contains any fenced blocks at all
+     */
+    public boolean hasBlocks() {
+        return !blocks.isEmpty();
+    }
+    
+    /**
+     * Check if any text lies outside the fenced blocks
+     */
+    public boolean hasUnfencedText() {
+        for (Segment segment : unfencedSegments) {
+            if (segment.getEnd() > segment.getStart()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * View of the same response that only exposes the given blocks
+     * @param routed Blocks routed to one parser, in response order
+     * @return Content sharing this response's text and unfenced segments
+     */
+    public TokenizedContent withBlocks(List<CodeBlock> routed) {
+        return new TokenizedContent(content, routed, unfencedSegments);
+    }
+    
+    // @GENERATE_GETTERS_SETTERS
+    public String getContent() { return content; }
+    public List<CodeBlock> getBlocks() { return blocks; }
+    public List<Segment> getUnfencedSegments() { return unfencedSegments; }
+    
+    /**
+     * Range of the response that lies outside every fenced block
+     */
+    public static class Segment {
+        private final int start;
+        private final int end;
+        
+        public Segment(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+        
+        // @GENERATE_GETTERS_SETTERS
+        public int getStart() { return start; }
+        public int getEnd() { return end; }
+    }
+}
\ No newline at end of file
@@ -3,37 +3,41 @@ package com.sonic.claudeforge.service.parser;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Dedicated Parser for TypeScript code (interfaces, types, enums, etc.)
  * Optimized for pure TypeScript files without React components
  */
 @Component
+@Order(30)
 public class TypeScriptCodeParser implements CodeParser {
     
     private static final Logger logger = LoggerFactory.getLogger(TypeScriptCodeParser.class);
     
-    // Pattern for TypeScript code blocks in markdown format
-    private static final Pattern TS_CODE_BLOCK_PATTERN = 
-        Pattern.compile("```(ts|typescript)\\s*//\\s*([^\\n]+)\\s*\\n([\\s\\S]*?)```");
+    // Fence language tags owned by this parser
+    private static final String[] FENCE_LANGUAGES = {"ts", "typescript"};
     
-    // Pattern for raw TypeScript code with path comments (including .ts files)
-    private static final Pattern RAW_TS_PATTERN = 
-        Pattern.compile("//\\s*(src/[^\\r\\n]+\\.ts)\\s*[\\r\\n]+([\\s\\S]+?)(?=[\\r\\n]+//\\s*src/[^\\r\\n]+\\.ts|\\Z)", Pattern.MULTILINE);
+    // Finder for raw TypeScript code with path comments (including .ts files)
+    private static final PathCommentScanner RAW_FILE_SCANNER = 
+        new PathCommentScanner("src/", false, "ts");
     
-    // Pattern for single TypeScript file
-    private static final Pattern SINGLE_TS_PATTERN = 
-        Pattern.compile("^\\s*//\\s*(src/[^\\r\\n]+\\.ts)\\s*[\\r\\n]+([\\s\\S]+)$", Pattern.MULTILINE);
+    // Keywords that canHandle looks for
+    private static final String[] DETECTION_KEYWORDS = {
+        "```ts", "```typescript", "// src/", ".ts", ".tsx", "export interface", "export enum",
+        "export type", "declare ", "namespace ", "React", "jsx", "tsx", "useState", "useEffect",
+        "interface ", "enum ", "type ", ".js"
+    };
+    
+    private final ContentFeatureScanner detector = new ContentFeatureScanner(List.of(this));
     
     @Override
-    public List<ParsedFile> parse(String content) {
-        logger.debug("Parsing TypeScript code from content (length: {})", content.length());
+    public List<ParsedFile> parse(TokenizedContent content) {
+        logger.debug("Parsing TypeScript code from content (length: {})", content.getContent().length());
         
         List<ParsedFile> files = new ArrayList<>();
         
@@ -54,13 +58,15 @@ public class TypeScriptCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseMarkdownCodeBlocks(String content) {
+    private List<ParsedFile> parseMarkdownCodeBlocks(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = TS_CODE_BLOCK_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String filePath = matcher.group(2).trim();
-            String code = matcher.group(3).trim();
+        for (CodeBlock block : content.getBlocks(FENCE_LANGUAGES)) {
+            if (!block.hasPath()) {
+                continue;
+            }
+            String filePath = block.getPathComment();
+            ContentSlice code = block.getBody();
             
             ParsedFile file = createTypeScriptFile(filePath, code);
             if (file != null) {
@@ -72,43 +78,48 @@ public class TypeScriptCodeParser implements CodeParser {
         return files;
     }
     
-    private List<ParsedFile> parseRawTypeScriptCode(String content) {
+    private List<ParsedFile> parseRawTypeScriptCode(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = RAW_TS_PATTERN.matcher(content);
         
-        while (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String code = matcher.group(2).trim();
-            
-            ParsedFile file = createTypeScriptFile(filePath, code);
-            if (file != null) {
-                files.add(file);
-                logger.debug("Found raw TypeScript file: {} ({} chars)", filePath, code.length());
+        // Only the text outside fenced blocks can hold raw files
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            for (PathCommentScanner.RawFile rawFile : RAW_FILE_SCANNER.findAll(content.getContent(), segment.getStart(), segment.getEnd())) {
+                String filePath = rawFile.getPath();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createTypeScriptFile(filePath, code);
+                if (file != null) {
+                    files.add(file);
+                    logger.debug("Found raw TypeScript file: {} ({} chars)", filePath, code.length());
+                }
             }
         }
         
         return files;
     }
     
-    private List<ParsedFile> parseSingleTypeScriptFile(String content) {
+    private List<ParsedFile> parseSingleTypeScriptFile(TokenizedContent content) {
         List<ParsedFile> files = new ArrayList<>();
-        Matcher matcher = SINGLE_TS_PATTERN.matcher(content.trim());
         
-        if (matcher.find()) {
-            String filePath = matcher.group(1).trim();
-            String code = matcher.group(2).trim();
-            
-            ParsedFile file = createTypeScriptFile(filePath, code);
-            if (file != null) {
-                files.add(file);
-                logger.debug("Found single TypeScript file: {} ({} chars)", filePath, code.length());
+        for (TokenizedContent.Segment segment : content.getUnfencedSegments()) {
+            PathCommentScanner.RawFile rawFile = RAW_FILE_SCANNER.findFirst(content.getContent(), segment.getStart(), segment.getEnd());
+            if (rawFile != null) {
+                String filePath = rawFile.getPath();
+                ContentSlice code = rawFile.getCode();
+                
+                ParsedFile file = createTypeScriptFile(filePath, code);
+                if (file != null) {
+                    files.add(file);
+                    logger.debug("Found single TypeScript file: {} ({} chars)", filePath, code.length());
+                }
+                break;
             }
         }
         
         return files;
     }
     
-    private ParsedFile createTypeScriptFile(String filePath, String content) {
+    private ParsedFile createTypeScriptFile(String filePath, ContentSlice content) {
         // Validate TypeScript content
         if (!isValidTypeScriptContent(content)) {
             logger.warn("Invalid TypeScript content for file: {}", filePath);
@@ -124,7 +135,7 @@ public class TypeScriptCodeParser implements CodeParser {
     /**
      * Validate TypeScript content
      */
-    private boolean isValidTypeScriptContent(String content) {
+    private boolean isValidTypeScriptContent(ContentSlice content) {
         // Must contain TypeScript-specific syntax
         return content.contains("export ") || 
                content.contains("import ") || 
@@ -147,7 +158,7 @@ public class TypeScriptCodeParser implements CodeParser {
     /**
      * Determine specific TypeScript file type
      */
-    private String determineTypeScriptFileType(String content) {
+    private String determineTypeScriptFileType(ContentSlice content) {
         // Count different TypeScript constructs
         boolean hasInterfaces = content.contains("interface ");
         boolean hasEnums = content.contains("enum ");
@@ -160,13 +171,13 @@ public class TypeScriptCodeParser implements CodeParser {
         if (hasInterfaces && hasEnums && hasTypes) {
             return "TypeScript Definitions"; // Mixed types file
         } else if (hasInterfaces && content.contains("export interface")) {
-            long interfaceCount = content.split("export interface").length - 1;
+            long interfaceCount = content.count("export interface");
             if (interfaceCount > 1) {
                 return "TypeScript Interfaces (" + interfaceCount + " interfaces)";
             }
             return "TypeScript Interface";
         } else if (hasEnums && content.contains("export enum")) {
-            long enumCount = content.split("export enum").length - 1;
+            long enumCount = content.count("export enum");
             if (enumCount > 1) {
                 return "TypeScript Enums (" + enumCount + " enums)";
             }
@@ -188,6 +199,11 @@ public class TypeScriptCodeParser implements CodeParser {
         return "TypeScript";
     }
     
+    @Override
+    public String[] getFenceLanguages() {
+        return FENCE_LANGUAGES.clone();
+    }
+    
     @Override
     public String[] getSupportedExtensions() {
         return new String[]{".ts", ".d.ts"};
@@ -198,27 +214,51 @@ public class TypeScriptCodeParser implements CodeParser {
         return "TypeScript";
     }
     
+    @Override
+    public String[] getDetectionKeywords() {
+        return DETECTION_KEYWORDS.clone();
+    }
+    
     @Override
     public boolean canHandle(String content) {
+        return canHandle(detector.scan(content));
+    }
+    
+    @Override
+    public boolean canHandle(ContentFeatures features) {
         // Focus only on pure TypeScript files, not JavaScript or React
-        return content.contains("```ts") ||
-               content.contains("```typescript") ||
+        return features.has("```ts") ||
+               features.has("```typescript") ||
                // Check for .ts file paths (excluding .tsx)
-               (content.contains("// src/") && content.contains(".ts") && !content.contains(".tsx")) ||
+               (features.has("// src/") && features.has(".ts") && !features.has(".tsx")) ||
                // Check for TypeScript-specific syntax without React or JS-only content
-               (content.contains("export interface") ||
-                content.contains("export enum") ||
-                content.contains("export type") ||
-                content.contains("declare ") ||
-                content.contains("namespace ")) &&
+               (features.has("export interface") ||
+                features.has("export enum") ||
+                features.has("export type") ||
+                features.has("declare ") ||
+                features.has("namespace ")) &&
                // Exclude React content
-               !content.contains("React") &&
-               !content.contains("jsx") &&
-               !content.contains("tsx") &&
-               !content.contains("useState") &&
-               !content.contains("useEffect") &&
+               !features.has("React") &&
+               !features.has("jsx") &&
+               !features.has("tsx") &&
+               !features.has("useState") &&
+               !features.has("useEffect") &&
                // Exclude plain JavaScript (.js files without TS syntax)
-               !(!content.contains("interface ") && !content.contains("enum ") && 
-                 !content.contains("type ") && content.contains(".js"));
+               !(!features.has("interface ") && !features.has("enum ") && 
+                 !features.has("type ") && features.has(".js"));
+    }
+    
+    @Override
+    public int getConfidence(ContentFeatures features) {
+        if (features.has("```ts") || features.has("```typescript")) {
+            return FULL_CONFIDENCE;
+        } else if (features.has("// src/") && features.has(".ts")) {
+            // Raw files need a path comment like this one; ".ts" also matches ".tsx" paths
+            return features.has(".tsx") ? 50 : 90;
+        } else if (canHandle(features)) {
+            // TypeScript-only syntax, with React and plain JavaScript ruled out
+            return 50;
+        }
+        return NO_CONFIDENCE;
     }
 }
\ No newline at end of file
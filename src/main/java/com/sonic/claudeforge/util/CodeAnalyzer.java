@@ -1,5 +1,8 @@
 package com.sonic.claudeforge.util;
 
+import com.sonic.claudeforge.config.ClaudeForgeProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -13,18 +16,35 @@ import java.util.regex.Pattern;
 @Component
 public class CodeAnalyzer {
     
+    private static final Logger logger = LoggerFactory.getLogger(CodeAnalyzer.class);
+    
     private static final Pattern CLASS_PATTERN = Pattern.compile("(public\\s+)?(class|interface|enum)\\s+(\\w+)");
-    private static final Pattern METHOD_PATTERN = Pattern.compile("(public|private|protected)\\s+.*?\\s+(\\w+)\\s*\\([^)]*\\)");
+    // Return type and modifiers stay within one declaration; possessive tails keep backtracking linear
+    private static final Pattern METHOD_PATTERN = Pattern.compile("(public|private|protected)\\s+[^;{}\\r\\n]*?\\s(\\w++)\\s*+\\([^)]*+\\)");
     private static final Pattern FIELD_PATTERN = Pattern.compile("(private|public|protected)\\s+([\\w<>\\[\\]]+)\\s+(\\w+)\\s*[;=]");
     private static final Pattern ANNOTATION_PATTERN = Pattern.compile("@(\\w+)");
     private static final Pattern IMPORT_PATTERN = Pattern.compile("import\\s+([\\w\\.]+);");
     
+    private final long matchTimeoutMillis;
+    
+    public CodeAnalyzer(ClaudeForgeProperties properties) {
+        this.matchTimeoutMillis = properties.getParser().getMatchTimeoutMillis();
+    }
+    
     /**
      * Extract class information from Java code
      */
     public ClassInfo extractClassInfo(String javaCode) {
         ClassInfo classInfo = new ClassInfo();
-        
+        try {
+            extractClassInfo(DeadlineCharSequence.of(javaCode, matchTimeoutMillis), classInfo);
+        } catch (MatchTimeoutException e) {
+            logger.warn("Class analysis stopped early ({} chars): {}", javaCode.length(), e.getMessage());
+        }
+        return classInfo;
+    }
+    
+    private void extractClassInfo(CharSequence javaCode, ClassInfo classInfo) {
         // Extract class name
         Matcher classMatcher = CLASS_PATTERN.matcher(javaCode);
         if (classMatcher.find()) {
@@ -70,8 +90,6 @@ public class CodeAnalyzer {
             imports.add(importMatcher.group(1));
         }
         classInfo.setImports(imports);
-        
-        return classInfo;
     }
     
     /**
@@ -79,12 +97,13 @@ public class CodeAnalyzer {
      */
     public boolean isSpringBootClass(String javaCode) {
         String[] springAnnotations = {
-            "@SpringBootApplication", "@RestController", "@Controller", 
-            "@Service", "@Repository", "@Component", "@Configuration"
+            "SpringBootApplication", "RestController", "Controller", 
+            "Service", "Repository", "Component", "Configuration"
         };
         
+        JavaStructureScanner.JavaStructure structure = JavaStructureScanner.scan(javaCode);
         for (String annotation : springAnnotations) {
-            if (javaCode.contains(annotation)) {
+            if (structure.hasAnnotation(annotation)) {
                 return true;
             }
         }
@@ -103,14 +122,18 @@ public class CodeAnalyzer {
             "(?:public\\s+)?([\\w<>\\[\\]]+)\\s+(\\w+)\\s*\\("
         );
         
-        Matcher matcher = mappingPattern.matcher(controllerCode);
-        while (matcher.find()) {
-            EndpointInfo endpoint = new EndpointInfo();
-            endpoint.setHttpMethod(matcher.group(1).toUpperCase());
-            endpoint.setPath(matcher.group(2));
-            endpoint.setReturnType(matcher.group(3));
-            endpoint.setMethodName(matcher.group(4));
-            endpoints.add(endpoint);
+        Matcher matcher = mappingPattern.matcher(DeadlineCharSequence.of(controllerCode, matchTimeoutMillis));
+        try {
+            while (matcher.find()) {
+                EndpointInfo endpoint = new EndpointInfo();
+                endpoint.setHttpMethod(matcher.group(1).toUpperCase());
+                endpoint.setPath(matcher.group(2));
+                endpoint.setReturnType(matcher.group(3));
+                endpoint.setMethodName(matcher.group(4));
+                endpoints.add(endpoint);
+            }
+        } catch (MatchTimeoutException e) {
+            logger.warn("Endpoint extraction stopped early ({} chars): {}", controllerCode.length(), e.getMessage());
         }
         
         return endpoints;
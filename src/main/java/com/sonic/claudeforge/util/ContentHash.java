@@ -0,0 +1,34 @@
+// src/main/java/com/sonic/claudeforge/util/ContentHash.java
+package com.sonic.claudeforge.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 of text as UTF-8, computed without copying the text into one String or byte array
+ * The text is encoded chunk by chunk by the pooled {@link Utf8Encoder} and each chunk is fed to the digest
+ * Unpaired surrogates hash as '?', the same as {@link String#getBytes}
+ */
+public final class ContentHash {
+    
+    private ContentHash() {}
+    
+    /**
+     * Hex SHA-256 of the text's UTF-8 bytes
+     */
+    public static String sha256(CharSequence content) {
+        MessageDigest digest = newDigest();
+        Utf8Encoder.encode(content, digest::update);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+    
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
\ No newline at end of file
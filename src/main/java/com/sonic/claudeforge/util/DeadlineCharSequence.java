@@ -0,0 +1,55 @@
+package com.sonic.claudeforge.util;
+
+/**
+ * CharSequence that stops regex matching once a time budget is spent
+ * java.util.regex reads its input through charAt, so even a backtracking pattern
+ * cannot run past the deadline; the match fails with a {@link MatchTimeoutException}
+ */
+public class DeadlineCharSequence implements CharSequence {
+
+    // Check the clock once per this many reads to keep charAt cheap
+    private static final int CHECK_INTERVAL_MASK = 0x3FF;
+
+    private final CharSequence source;
+    private final long deadlineNanos;
+    private final long budgetMillis;
+    private int reads = 0;
+
+    private DeadlineCharSequence(CharSequence source, long deadlineNanos, long budgetMillis) {
+        this.source = source;
+        this.deadlineNanos = deadlineNanos;
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * Wrap content for matching with a time budget starting now
+     * @param source Content to match against
+     * @param budgetMillis Time allowed for all matching on the returned sequence
+     */
+    public static DeadlineCharSequence of(CharSequence source, long budgetMillis) {
+        return new DeadlineCharSequence(source, System.nanoTime() + budgetMillis * 1_000_000L, budgetMillis);
+    }
+
+    @Override
+    public char charAt(int index) {
+        if ((++reads & CHECK_INTERVAL_MASK) == 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw new MatchTimeoutException(budgetMillis);
+        }
+        return source.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return source.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new DeadlineCharSequence(source.subSequence(start, end), deadlineNanos, budgetMillis);
+    }
+
+    @Override
+    public String toString() {
+        return source.toString();
+    }
+}
\ No newline at end of file
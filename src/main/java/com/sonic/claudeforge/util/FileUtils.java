@@ -6,12 +6,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.StandardOpenOption;
 
 /**
  * File utility class for file operations
@@ -41,9 +41,21 @@ public class FileUtils {
      * Write content to file
      */
     public void writeFile(String filePath, String content) {
-        try {
-            Path path = Paths.get(filePath);
-            Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        writeFile(filePath, (CharSequence) content);
+    }
+    
+    /**
+     * Write content to file without first copying it into one String or byte array
+     * The text is encoded chunk by chunk into a pooled direct buffer and written through a FileChannel
+     */
+    public void writeFile(String filePath, CharSequence content) {
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            Utf8Encoder.encode(content, chunk -> {
+                while (chunk.hasRemaining()) {
+                    channel.write(chunk);
+                }
+            });
             logger.debug("Written file: {} ({} chars)", filePath, content.length());
         } catch (Exception e) {
             logger.error("Failed to write file: {}", filePath, e);
@@ -52,41 +64,40 @@ public class FileUtils {
     }
     
     /**
-     * Read file content as string
+     * Force a file's content and metadata to disk
      */
-    public String readFileContent(File file) {
-        try {
-            return Files.readString(file.toPath(), StandardCharsets.UTF_8);
+    public void forceFile(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.force(true);
         } catch (Exception e) {
-            logger.error("Failed to read file: {}", file.getAbsolutePath(), e);
-            return "";
+            logger.error("Failed to force file: {}", path, e);
+            throw new RuntimeException("Failed to force file: " + path, e);
         }
     }
     
     /**
-     * Find all Java files in directory recursively
+     * Force a directory's entries to disk, so files just created in it survive a crash
+     * @return false if the directory could not be forced; some platforms (e.g. Windows) do not support it
      */
-    public List<File> findJavaFiles(String directoryPath) {
-        List<File> javaFiles = new ArrayList<>();
-        File directory = new File(directoryPath);
-        
-        if (directory.exists() && directory.isDirectory()) {
-            findJavaFilesRecursive(directory, javaFiles);
+    public boolean forceDirectory(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.force(true);
+            return true;
+        } catch (IOException e) {
+            logger.debug("Could not force directory {}: {}", path, e.getMessage());
+            return false;
         }
-        
-        return javaFiles;
     }
     
-    private void findJavaFilesRecursive(File directory, List<File> javaFiles) {
-        File[] files = directory.listFiles();
-        if (files != null) {
-            for (File file : files) {
-                if (file.isDirectory()) {
-                    findJavaFilesRecursive(file, javaFiles);
-                } else if (file.getName().endsWith(".java")) {
-                    javaFiles.add(file);
-                }
-            }
+    /**
+     * Read file content as string
+     * @throws UncheckedIOException if the file cannot be read or is not valid UTF-8
+     */
+    public String readFileContent(File file) {
+        try {
+            return Files.readString(file.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read file: " + file.getAbsolutePath(), e);
         }
     }
     
@@ -0,0 +1,382 @@
+// src/main/java/com/sonic/claudeforge/util/JavaStructureScanner.java
+package com.sonic.claudeforge.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Single-pass lexer for the outline of a Java source file: package, imports, and the first
+ * top-level type with its annotations and supertypes
+ * Comments and string, char and text block literals are skipped, so nothing that only appears
+ * inside them is reported; scanning stops once the first type's body opens
+ */
+public final class JavaStructureScanner {
+    
+    private static final int EOF = 0;
+    private static final int IDENTIFIER = 1;
+    private static final int SYMBOL = 2;
+    private static final int LITERAL = 3;
+    
+    private JavaStructureScanner() {
+    }
+    
+    /**
+     * Scan Java source code
+     * @param source Full file or fragment
+     * @return Outline of the source; empty if it declares nothing
+     */
+    public static JavaStructure scan(CharSequence source) {
+        return new Scan(source).run();
+    }
+    
+    /**
+     * Outline of a Java source file
+     */
+    public static class JavaStructure {
+        private String packageName;
+        private boolean hasImports;
+        private String typeKind;
+        private String typeName;
+        private final Set<String> annotations = new LinkedHashSet<>();
+        private final List<String> supertypes = new ArrayList<>();
+        
+        /**
+         * Check if the first top-level type carries an annotation
+         * @param simpleName Annotation name without '@' or package (e.g., "Service")
+         */
+        public boolean hasAnnotation(String simpleName) {
+            return annotations.contains(simpleName);
+        }
+        
+        /**
+         * Check if the source declares a package, imports or a type
+         */
+        public boolean hasDeclarations() {
+            return packageName != null || hasImports || typeKind != null;
+        }
+        
+        /**
+         * Spring stereotype of the first top-level type
+         * @return "Controller", "Service", "Repository", "Entity" or "Configuration", or null if none applies
+         */
+        public String getStereotype() {
+            if (hasAnnotation("RestController") || hasAnnotation("Controller")) {
+                return "Controller";
+            } else if (hasAnnotation("Service")) {
+                return "Service";
+            } else if (hasAnnotation("Repository")) {
+                return "Repository";
+            } else if (hasAnnotation("Entity")) {
+                return "Entity";
+            } else if (hasAnnotation("Configuration")) {
+                return "Configuration";
+            }
+            return null;
+        }
+        
+        /**
+         * Check if the type's name or any type it extends or implements contains the given text
+         */
+        public boolean mentionsType(String text) {
+            if (typeName != null && typeName.contains(text)) {
+                return true;
+            }
+            for (String supertype : supertypes) {
+                if (supertype.contains(text)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        // @GENERATE_GETTERS_SETTERS
+        public String getPackageName() { return packageName; }
+        public boolean hasImports() { return hasImports; }
+        public String getTypeKind() { return typeKind; }
+        public String getTypeName() { return typeName; }
+        public Set<String> getAnnotations() { return Collections.unmodifiableSet(annotations); }
+        public List<String> getSupertypes() { return Collections.unmodifiableList(supertypes); }
+    }
+    
+    private static class Scan {
+        private final CharSequence source;
+        private final int length;
+        private final JavaStructure structure = new JavaStructure();
+        private final List<String> pendingAnnotations = new ArrayList<>();
+        
+        private int position = 0;
+        private int token;
+        private int tokenStart;
+        private int tokenEnd;
+        private boolean pushedBack;
+        
+        Scan(CharSequence source) {
+            this.source = source;
+            this.length = source.length();
+        }
+        
+        JavaStructure run() {
+            int depth = 0;
+            
+            while (next() != EOF) {
+                if (token == SYMBOL) {
+                    char symbol = source.charAt(tokenStart);
+                    if (symbol == '{') {
+                        depth++;
+                    } else if (symbol == '}') {
+                        depth = Math.max(0, depth - 1);
+                    } else if (symbol == '@' && depth == 0) {
+                        if (annotation()) {
+                            return structure;
+                        }
+                    } else if (symbol == ';' && depth == 0) {
+                        pendingAnnotations.clear();
+                    }
+                } else if (token == IDENTIFIER && depth == 0) {
+                    String word = text();
+                    switch (word) {
+                        case "package" -> {
+                            structure.packageName = qualifiedName();
+                            pendingAnnotations.clear();
+                        }
+                        case "import" -> {
+                            structure.hasImports = true;
+                            skipPast(';');
+                        }
+                        case "class", "interface", "enum" -> {
+                            typeHeader(word);
+                            return structure;
+                        }
+                        case "record" -> {
+                            // Contextual keyword: only a declaration if a name follows
+                            if (next() == IDENTIFIER) {
+                                pushedBack = true;
+                                typeHeader(word);
+                                return structure;
+                            }
+                            pushedBack = true;
+                        }
+                        default -> { }
+                    }
+                }
+            }
+            return structure;
+        }
+        
+        /**
+         * Read an annotation at top level
+         * @return true if it was an annotation type declaration, which ends the scan
+         */
+        private boolean annotation() {
+            if (next() != IDENTIFIER) {
+                pushedBack = true;
+                return false;
+            }
+            if ("interface".equals(text())) {
+                typeHeader("@interface");
+                return true;
+            }
+            
+            pushedBack = true;
+            String name = qualifiedName();
+            pendingAnnotations.add(name.substring(name.lastIndexOf('.') + 1));
+            
+            if (next() == SYMBOL && source.charAt(tokenStart) == '(') {
+                skipArguments();
+            } else {
+                pushedBack = true;
+            }
+            return false;
+        }
+        
+        /**
+         * Read a type declaration header up to its opening brace
+         */
+        private void typeHeader(String kind) {
+            structure.typeKind = kind;
+            structure.annotations.addAll(pendingAnnotations);
+            if (next() == IDENTIFIER) {
+                structure.typeName = text();
+            }
+            
+            boolean inSupertypes = false;
+            boolean qualified = false;
+            int angleDepth = 0;
+            int parenDepth = 0;
+            while (next() != EOF) {
+                if (token == SYMBOL) {
+                    char symbol = source.charAt(tokenStart);
+                    if (symbol == '{' && parenDepth == 0) {
+                        return;
+                    } else if (symbol == '<') {
+                        angleDepth++;
+                    } else if (symbol == '>') {
+                        angleDepth = Math.max(0, angleDepth - 1);
+                    } else if (symbol == '(') {
+                        parenDepth++;
+                    } else if (symbol == ')') {
+                        parenDepth = Math.max(0, parenDepth - 1);
+                    }
+                    qualified = symbol == '.';
+                } else if (token == IDENTIFIER && angleDepth == 0 && parenDepth == 0) {
+                    String word = text();
+                    if (word.equals("extends") || word.equals("implements")) {
+                        inSupertypes = true;
+                    } else if (word.equals("permits")) {
+                        inSupertypes = false;
+                    } else if (inSupertypes && qualified && !structure.supertypes.isEmpty()) {
+                        int last = structure.supertypes.size() - 1;
+                        structure.supertypes.set(last, structure.supertypes.get(last) + "." + word);
+                    } else if (inSupertypes) {
+                        structure.supertypes.add(word);
+                    }
+                    qualified = false;
+                }
+            }
+        }
+        
+        private String qualifiedName() {
+            if (next() != IDENTIFIER) {
+                pushedBack = true;
+                return "";
+            }
+            StringBuilder name = new StringBuilder(text());
+            while (true) {
+                if (next() != SYMBOL || source.charAt(tokenStart) != '.') {
+                    pushedBack = true;
+                    break;
+                }
+                if (next() != IDENTIFIER) {
+                    // e.g. the '*' of a wildcard
+                    pushedBack = true;
+                    break;
+                }
+                name.append('.').append(source, tokenStart, tokenEnd);
+            }
+            return name.toString();
+        }
+        
+        private void skipArguments() {
+            int parenDepth = 1;
+            while (parenDepth > 0 && next() != EOF) {
+                if (token == SYMBOL) {
+                    char symbol = source.charAt(tokenStart);
+                    if (symbol == '(') {
+                        parenDepth++;
+                    } else if (symbol == ')') {
+                        parenDepth--;
+                    }
+                }
+            }
+        }
+        
+        private void skipPast(char terminator) {
+            while (next() != EOF) {
+                if (token == SYMBOL && source.charAt(tokenStart) == terminator) {
+                    return;
+                }
+            }
+        }
+        
+        private String text() {
+            return source.subSequence(tokenStart, tokenEnd).toString();
+        }
+        
+        /**
+         * Advance to the next token, skipping whitespace and comments
+         */
+        private int next() {
+            if (pushedBack) {
+                pushedBack = false;
+                return token;
+            }
+            
+            while (position < length) {
+                char c = source.charAt(position);
+                
+                if (Character.isWhitespace(c)) {
+                    position++;
+                } else if (c == '/' && position + 1 < length && source.charAt(position + 1) == '/') {
+                    position = lineEnd(position + 2);
+                } else if (c == '/' && position + 1 < length && source.charAt(position + 1) == '*') {
+                    position = blockCommentEnd(position + 2);
+                } else if (c == '"' || c == '\'') {
+                    tokenStart = position;
+                    position = literalEnd(position);
+                    tokenEnd = position;
+                    return token = LITERAL;
+                } else if (Character.isJavaIdentifierStart(c)) {
+                    tokenStart = position;
+                    do {
+                        position++;
+                    } while (position < length && Character.isJavaIdentifierPart(source.charAt(position)));
+                    tokenEnd = position;
+                    return token = IDENTIFIER;
+                } else if (Character.isDigit(c)) {
+                    tokenStart = position;
+                    do {
+                        position++;
+                    } while (position < length && (Character.isLetterOrDigit(source.charAt(position)) || source.charAt(position) == '.' || source.charAt(position) == '_'));
+                    tokenEnd = position;
+                    return token = LITERAL;
+                } else {
+                    tokenStart = position;
+                    tokenEnd = ++position;
+                    return token = SYMBOL;
+                }
+            }
+            tokenStart = tokenEnd = length;
+            return token = EOF;
+        }
+        
+        private int lineEnd(int from) {
+            int i = from;
+            while (i < length && source.charAt(i) != '\n') {
+                i++;
+            }
+            return i;
+        }
+        
+        private int blockCommentEnd(int from) {
+            for (int i = from; i + 1 < length; i++) {
+                if (source.charAt(i) == '*' && source.charAt(i + 1) == '/') {
+                    return i + 2;
+                }
+            }
+            return length;
+        }
+        
+        /**
+         * End of a string, char or text block literal starting at the given quote
+         * An unterminated string or char literal ends at the line break
+         */
+        private int literalEnd(int start) {
+            char quote = source.charAt(start);
+            if (quote == '"' && start + 2 < length && source.charAt(start + 1) == '"' && source.charAt(start + 2) == '"') {
+                for (int i = start + 3; i < length; i++) {
+                    if (source.charAt(i) == '\\') {
+                        i++;
+                    } else if (source.charAt(i) == '"' && i + 2 < length && source.charAt(i + 1) == '"' && source.charAt(i + 2) == '"') {
+                        return i + 3;
+                    }
+                }
+                return length;
+            }
+            
+            for (int i = start + 1; i < length; i++) {
+                char c = source.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote) {
+                    return i + 1;
+                } else if (c == '\n') {
+                    return i;
+                }
+            }
+            return length;
+        }
+    }
+}
\ No newline at end of file
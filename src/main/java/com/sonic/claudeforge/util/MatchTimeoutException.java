@@ -0,0 +1,18 @@
+package com.sonic.claudeforge.util;
+
+/**
+ * Thrown when regex matching over a {@link DeadlineCharSequence} exceeds its time budget
+ */
+public class MatchTimeoutException extends RuntimeException {
+
+    private final long budgetMillis;
+
+    public MatchTimeoutException(long budgetMillis) {
+        super("Pattern matching timed out after " + budgetMillis + " ms");
+        this.budgetMillis = budgetMillis;
+    }
+
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+}
\ No newline at end of file
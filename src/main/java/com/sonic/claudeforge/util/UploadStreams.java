@@ -0,0 +1,100 @@
+// src/main/java/com/sonic/claudeforge/util/UploadStreams.java
+package com.sonic.claudeforge.util;
+
+import com.sonic.claudeforge.exception.UploadTooLargeException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Opens uploaded request bodies for incremental reading
+ * Gzip input is recognised by its magic bytes, and the size limit applies to the decompressed
+ * bytes, so a small compressed upload cannot expand without bound
+ */
+public final class UploadStreams {
+    
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+    
+    private UploadStreams() {
+    }
+    
+    /**
+     * Open an upload as text
+     * @param body Raw request body or multipart file stream
+     * @param maxSize Largest number of (decompressed) bytes to accept
+     * @param charset Charset of the text
+     * @return Reader that throws {@link UploadTooLargeException} once more than maxSize bytes are read
+     */
+    public static Reader openText(InputStream body, long maxSize, Charset charset) throws IOException {
+        return new InputStreamReader(new SizeLimitedInputStream(decompress(body), maxSize), charset);
+    }
+    
+    private static InputStream decompress(InputStream body) throws IOException {
+        PushbackInputStream input = new PushbackInputStream(body, 2);
+        int first = input.read();
+        int second = first == -1 ? -1 : input.read();
+        if (second != -1) {
+            input.unread(second);
+        }
+        if (first != -1) {
+            input.unread(first);
+        }
+        
+        if (first == GZIP_MAGIC_FIRST && second == GZIP_MAGIC_SECOND) {
+            return new GZIPInputStream(input, 8192);
+        }
+        return input;
+    }
+    
+    /**
+     * Input stream that fails once more than a given number of bytes has been read
+     */
+    private static class SizeLimitedInputStream extends FilterInputStream {
+        private final long maxSize;
+        private long count = 0;
+        
+        SizeLimitedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+        
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                record(1);
+            }
+            return b;
+        }
+        
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                record(read);
+            }
+            return read;
+        }
+        
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            record(skipped);
+            return skipped;
+        }
+        
+        private void record(long bytes) {
+            count += bytes;
+            if (count > maxSize) {
+                throw new UploadTooLargeException(maxSize);
+            }
+        }
+    }
+}
\ No newline at end of file
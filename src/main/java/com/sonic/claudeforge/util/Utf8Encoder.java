@@ -0,0 +1,77 @@
+// src/main/java/com/sonic/claudeforge/util/Utf8Encoder.java
+package com.sonic.claudeforge.util;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Pooled UTF-8 encoder that hands text to a sink in chunks, without copying it into one byte array
+ * Malformed text is replaced the same way String.getBytes replaces it
+ * Shared by file writes and content hashing, so both see the same bytes
+ */
+final class Utf8Encoder {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_POOLED_ENCODERS = 16;
+    
+    private static final BlockingQueue<Utf8Encoder> pool = new ArrayBlockingQueue<>(MAX_POOLED_ENCODERS);
+    
+    /**
+     * Receives each encoded chunk and must consume all of it before returning
+     */
+    interface Sink<E extends Exception> {
+        void accept(ByteBuffer chunk) throws E;
+    }
+    
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    
+    private Utf8Encoder() {}
+    
+    /**
+     * Encode text with a pooled encoder, one buffer-sized chunk at a time
+     */
+    static <E extends Exception> void encode(CharSequence content, Sink<E> sink) throws E {
+        Utf8Encoder utf8 = pool.poll();
+        if (utf8 == null) {
+            utf8 = new Utf8Encoder();
+        }
+        try {
+            utf8.encodeAll(CharBuffer.wrap(content), sink);
+        } finally {
+            utf8.encoder.reset();
+            utf8.bytes.clear();
+            // Drop it if the pool is already full
+            pool.offer(utf8);
+        }
+    }
+    
+    private <E extends Exception> void encodeAll(CharBuffer chars, Sink<E> sink) throws E {
+        CoderResult result;
+        do {
+            // Replacing malformed input means encoding never reports an error
+            result = encoder.encode(chars, bytes, true);
+            drain(sink);
+        } while (result.isOverflow());
+        do {
+            result = encoder.flush(bytes);
+            drain(sink);
+        } while (result.isOverflow());
+    }
+    
+    private <E extends Exception> void drain(Sink<E> sink) throws E {
+        bytes.flip();
+        if (bytes.hasRemaining()) {
+            sink.accept(bytes);
+        }
+        bytes.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+// src/main/java/com/sonic/claudeforge/util/WorkspaceManifest.java
+package com.sonic.claudeforge.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Record of the files ClaudeForge last wrote into a workspace: path to content hash, size and mtime
+ * A file is unchanged when the new content hashes the same and the file on disk still has the
+ * recorded size and mtime, so checking costs one stat and never reads the file back
+ * Stored as tab-separated lines in {@value #FILE_NAME} at the workspace root; safe for concurrent use
+ */
+public class WorkspaceManifest {
+    
+    public static final String FILE_NAME = ".claudeforge-manifest";
+    
+    private static final Logger logger = LoggerFactory.getLogger(WorkspaceManifest.class);
+    
+    private final Path workspace;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+    
+    private WorkspaceManifest(Path workspace) {
+        this.workspace = workspace;
+    }
+    
+    /**
+     * Load a workspace's manifest; a missing or unreadable manifest starts empty
+     */
+    public static WorkspaceManifest load(Path workspace) {
+        WorkspaceManifest manifest = new WorkspaceManifest(workspace.toAbsolutePath().normalize());
+        Path file = manifest.workspace.resolve(FILE_NAME);
+        
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", 4);
+                if (fields.length == 4) {
+                    try {
+                        manifest.entries.put(fields[3], new Entry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+                    } catch (NumberFormatException e) {
+                        logger.debug("Skipping malformed manifest line in {}: {}", file, line);
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // First generation into this workspace
+        } catch (IOException e) {
+            logger.warn("Could not read workspace manifest {}, starting empty: {}", file, e.getMessage());
+            manifest.entries.clear();
+        }
+        return manifest;
+    }
+    
+    /**
+     * Hash content the way the manifest records it, without copying it
+     */
+    public static String hash(CharSequence content) {
+        return ContentHash.sha256(content);
+    }
+    
+    /**
+     * Key of a file in this manifest
+     * @return Path relative to the workspace, or null if the file lies outside it
+     */
+    public String keyOf(Path target) {
+        Path normalized = target.toAbsolutePath().normalize();
+        if (!normalized.startsWith(workspace)) {
+            return null;
+        }
+        return workspace.relativize(normalized).toString().replace('\\', '/');
+    }
+    
+    /**
+     * Check if a file on disk still holds the given content, as last recorded, and count it if so
+     * @param key Key from {@link #keyOf}
+     * @param target The file
+     * @param hash Hash of the new content from {@link #hash}
+     */
+    public boolean isUnchanged(String key, Path target, String hash) {
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.hash.equals(hash)) {
+            return false;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(target, BasicFileAttributes.class);
+            boolean same = attributes.isRegularFile()
+                    && attributes.size() == entry.size
+                    && attributes.lastModifiedTime().toMillis() == entry.modified;
+            if (same) {
+                unchanged.incrementAndGet();
+            }
+            return same;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Record a file just written with the given content
+     */
+    public void record(String key, Path target, String hash) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(target, BasicFileAttributes.class);
+            entries.put(key, new Entry(hash, attributes.size(), attributes.lastModifiedTime().toMillis()));
+        } catch (IOException e) {
+            entries.remove(key);
+        }
+        written.incrementAndGet();
+        dirty.set(true);
+    }
+    
+    /**
+     * Write the manifest back if anything was recorded since it was loaded or last saved
+     * The file is replaced atomically, so readers never see a partial manifest
+     */
+    public synchronized void save() {
+        logger.info("Workspace {}: {} files written, {} unchanged", workspace, written.getAndSet(0), unchanged.getAndSet(0));
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        
+        Path file = workspace.resolve(FILE_NAME);
+        Path temp = workspace.resolve(FILE_NAME + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    Entry value = entry.getValue();
+                    writer.write(value.hash + "\t" + value.size + "\t" + value.modified + "\t" + entry.getKey());
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Without a manifest the next generation just rewrites everything
+            logger.warn("Could not save workspace manifest {}: {}", file, e.getMessage());
+            dirty.set(true);
+        }
+    }
+    
+    private static class Entry {
+        private final String hash;
+        private final long size;
+        private final long modified;
+        
+        Entry(String hash, long size, long modified) {
+            this.hash = hash;
+            this.size = size;
+            this.modified = modified;
+        }
+    }
+}
\ No newline at end of file